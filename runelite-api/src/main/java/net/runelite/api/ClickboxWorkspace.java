@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Scratch arrays and recently computed clickboxes for {@link Perspective#getClickbox}, which is called
+ * for many models every frame. Each thread has its own workspace.
+ * <p>
+ * A cached clickbox is reused while the model's position, the camera and the viewport are unchanged,
+ * and the model's vertices and hidden faces hash the same. Hashing still reads every vertex, but skips
+ * projecting them and computing the hull. The hashes are 64 bits, so a changed model returning a stale
+ * clickbox needs a 64 bit collision, which is accepted as vanishingly unlikely.
+ * <p>
+ * Models which were not used since the previous client cycle are evicted, so models of despawned
+ * entities and previous scenes are not kept reachable.
+ */
+class ClickboxWorkspace
+{
+	private static final int MAX_CACHED = 256;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	final float[] aabbX = new float[8];
+	final float[] aabbY = new float[8];
+	final float[] aabbZ = new float[8];
+	final int[] aabbX2d = new int[8];
+	final int[] aabbY2d = new int[8];
+	final int[][] tris = new int[3][];
+	int[] x2d = new int[0];
+	int[] y2d = new int[0];
+
+	private final Map<Model, Entry> cache = new IdentityHashMap<>();
+	private final Key key = new Key();
+	private Entry entry;
+	private int cycle = -1;
+
+	void ensureCapacity(int vertexCount)
+	{
+		if (x2d.length < vertexCount)
+		{
+			x2d = new int[vertexCount];
+			y2d = new int[vertexCount];
+		}
+	}
+
+	/**
+	 * Check if the clickbox of the model was computed with the same model vertices, hidden faces,
+	 * position and camera. If so, it is returned from {@link #getCachedClickbox()}.
+	 */
+	boolean isCached(Client client, Model model, int orientation, int x, int y, int z)
+	{
+		evictUnused(client.getGameCycle());
+		key.set(client, model, orientation, x, y, z);
+		entry = cache.get(model);
+		if (entry == null)
+		{
+			return false;
+		}
+
+		entry.used = true;
+		return entry.key.matches(key);
+	}
+
+	int size()
+	{
+		return cache.size();
+	}
+
+	Shape getCachedClickbox()
+	{
+		return entry.clickbox;
+	}
+
+	/**
+	 * Store the clickbox for the model, keyed on the state passed to the preceding {@link #isCached} call
+	 */
+	void cache(Model model, Shape clickbox)
+	{
+		if (entry != null)
+		{
+			entry.key.copyFrom(key);
+			entry.clickbox = clickbox;
+			return;
+		}
+
+		if (cache.size() >= MAX_CACHED)
+		{
+			cache.clear();
+		}
+
+		Entry entry = new Entry();
+		entry.key.copyFrom(key);
+		entry.clickbox = clickbox;
+		entry.used = true;
+		cache.put(model, entry);
+	}
+
+	private void evictUnused(int cycle)
+	{
+		if (cycle == this.cycle)
+		{
+			return;
+		}
+
+		this.cycle = cycle;
+		for (Iterator<Entry> it = cache.values().iterator(); it.hasNext(); )
+		{
+			Entry entry = it.next();
+			if (entry.used)
+			{
+				entry.used = false;
+			}
+			else
+			{
+				it.remove();
+			}
+		}
+	}
+
+	private static long hash(long hash, int value)
+	{
+		return (hash ^ value) * FNV_PRIME;
+	}
+
+	private static class Entry
+	{
+		private final Key key = new Key();
+		private Shape clickbox;
+		private boolean used;
+	}
+
+	private static class Key
+	{
+		private int orientation;
+		private int x;
+		private int y;
+		private int z;
+		private int cameraX;
+		private int cameraY;
+		private int cameraZ;
+		private int cameraPitch;
+		private int cameraYaw;
+		private int scale;
+		private int viewportXOffset;
+		private int viewportYOffset;
+		private int viewportWidth;
+		private int viewportHeight;
+		private int verticesCount;
+		private int faceCount;
+		private long verticesHash;
+		private long hiddenFacesHash;
+
+		void set(Client client, Model model, int orientation, int x, int y, int z)
+		{
+			this.orientation = orientation;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			cameraX = client.getCameraX();
+			cameraY = client.getCameraY();
+			cameraZ = client.getCameraZ();
+			cameraPitch = client.getCameraPitch();
+			cameraYaw = client.getCameraYaw();
+			scale = client.getScale();
+			viewportXOffset = client.getViewportXOffset();
+			viewportYOffset = client.getViewportYOffset();
+			viewportWidth = client.getViewportWidth();
+			viewportHeight = client.getViewportHeight();
+			verticesCount = model.getVerticesCount();
+			faceCount = model.getFaceCount();
+
+			// animated models reuse the same model with different vertices
+			final float[] verticesX = model.getVerticesX();
+			final float[] verticesY = model.getVerticesY();
+			final float[] verticesZ = model.getVerticesZ();
+			long hash = FNV_OFFSET;
+			for (int i = 0; i < verticesCount; ++i)
+			{
+				hash = hash(hash, Float.floatToRawIntBits(verticesX[i]));
+				hash = hash(hash, Float.floatToRawIntBits(verticesY[i]));
+				hash = hash(hash, Float.floatToRawIntBits(verticesZ[i]));
+			}
+			verticesHash = hash;
+
+			// faces with a color of -2 are hidden, and are excluded from the clickbox
+			final int[] faceColors3 = model.getFaceColors3();
+			hash = FNV_OFFSET;
+			if (faceColors3 != null)
+			{
+				for (int i = 0; i < faceCount; ++i)
+				{
+					if (faceColors3[i] == -2)
+					{
+						hash = hash(hash, i);
+					}
+				}
+			}
+			hiddenFacesHash = hash;
+		}
+
+		void copyFrom(Key other)
+		{
+			orientation = other.orientation;
+			x = other.x;
+			y = other.y;
+			z = other.z;
+			cameraX = other.cameraX;
+			cameraY = other.cameraY;
+			cameraZ = other.cameraZ;
+			cameraPitch = other.cameraPitch;
+			cameraYaw = other.cameraYaw;
+			scale = other.scale;
+			viewportXOffset = other.viewportXOffset;
+			viewportYOffset = other.viewportYOffset;
+			viewportWidth = other.viewportWidth;
+			viewportHeight = other.viewportHeight;
+			verticesCount = other.verticesCount;
+			faceCount = other.faceCount;
+			verticesHash = other.verticesHash;
+			hiddenFacesHash = other.hiddenFacesHash;
+		}
+
+		boolean matches(Key other)
+		{
+			return orientation == other.orientation
+				&& x == other.x
+				&& y == other.y
+				&& z == other.z
+				&& cameraX == other.cameraX
+				&& cameraY == other.cameraY
+				&& cameraZ == other.cameraZ
+				&& cameraPitch == other.cameraPitch
+				&& cameraYaw == other.cameraYaw
+				&& scale == other.scale
+				&& viewportXOffset == other.viewportXOffset
+				&& viewportYOffset == other.viewportYOffset
+				&& viewportWidth == other.viewportWidth
+				&& viewportHeight == other.viewportHeight
+				&& verticesCount == other.verticesCount
+				&& faceCount == other.faceCount
+				&& verticesHash == other.verticesHash
+				&& hiddenFacesHash == other.hiddenFacesHash;
+		}
+	}
+}
@@ -64,6 +64,8 @@ public class Perspective
 
 	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
 
+	private static final ThreadLocal<ClickboxWorkspace> CLICKBOX_WORKSPACE = ThreadLocal.withInitial(ClickboxWorkspace::new);
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -756,6 +758,9 @@ public class Perspective
 	 * Get the on-screen clickable area of {@code model} as though it's for the
 	 * object on the tile at ({@code localX}, {@code localY}) and rotated to
 	 * angle {@code orientation}.
+	 * <p>
+	 * The clickbox of a model which has not moved since the previous call, with the camera in the same
+	 * position, is reused, so the returned shape must not be modified.
 	 * @param client      the game client
 	 * @param model       the model to calculate a clickbox for
 	 * @param orientation the orientation of the model (0-2048, where 0 is north)
@@ -772,7 +777,20 @@ public class Perspective
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+		final ClickboxWorkspace workspace = CLICKBOX_WORKSPACE.get();
+		if (workspace.isCached(client, model, orientation, x, y, z))
+		{
+			return workspace.getCachedClickbox();
+		}
+
+		final Shape clickbox = calculateClickbox(client, workspace, model, orientation, x, y, z);
+		workspace.cache(model, clickbox);
+		return clickbox;
+	}
+
+	private static Shape calculateClickbox(Client client, ClickboxWorkspace workspace, Model model, int orientation, int x, int y, int z)
+	{
+		SimplePolygon bounds = calculateAABB(client, workspace, model, orientation, x, y, z);
 
 		if (bounds == null)
 		{
@@ -784,7 +802,7 @@ public class Perspective
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, workspace, model, orientation, x, y, z);
 		if (bounds2d == null)
 		{
 			return null;
@@ -798,7 +816,7 @@ public class Perspective
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static SimplePolygon calculateAABB(Client client, ClickboxWorkspace workspace, Model m, int jauOrient, int x, int y, int z)
 	{
 		AABB aabb = m.getAABB(jauOrient);
 
@@ -818,31 +836,29 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		final float[] xa = workspace.aabbX;
+		final float[] ya = workspace.aabbY;
+		final float[] za = workspace.aabbZ;
+		for (int i = 0; i < 8; ++i)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		final int[] x2d = workspace.aabbX2d;
+		final int[] y2d = workspace.aabbY2d;
 
 		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
 		return Jarvis.convexHull(x2d, y2d);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, ClickboxWorkspace workspace, Model m, int jauOrient, int x, int y, int z)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		workspace.ensureCapacity(m.getVerticesCount());
+		final int[] x2d = workspace.x2d;
+		final int[] y2d = workspace.y2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
@@ -854,11 +870,10 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[][] tris = workspace.tris;
+		tris[0] = m.getFaceIndices1();
+		tris[1] = m.getFaceIndices2();
+		tris[2] = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClickboxWorkspaceTest
+{
+	private final Map<String, Object> clientValues = new HashMap<>();
+	private final Client client = proxy(Client.class, clientValues);
+
+	private final ClickboxWorkspace workspace = new ClickboxWorkspace();
+	private final Shape clickbox = new Rectangle(1, 2, 3, 4);
+
+	private Map<String, Object> modelValues;
+	private Model model;
+
+	@Before
+	public void before()
+	{
+		clientValues.put("getGameCycle", 1);
+		clientValues.put("getCameraX", 100);
+		clientValues.put("getViewportWidth", 765);
+		clientValues.put("getViewportHeight", 503);
+
+		modelValues = new HashMap<>();
+		model = createModel(modelValues);
+	}
+
+	@Test
+	public void testHit()
+	{
+		assertFalse(workspace.isCached(client, model, 0, 1, 2, 3));
+		workspace.cache(model, clickbox);
+
+		assertTrue(workspace.isCached(client, model, 0, 1, 2, 3));
+		assertSame(clickbox, workspace.getCachedClickbox());
+
+		// a different position is a miss
+		assertFalse(workspace.isCached(client, model, 512, 1, 2, 3));
+	}
+
+	@Test
+	public void testCameraChange()
+	{
+		workspace.isCached(client, model, 0, 1, 2, 3);
+		workspace.cache(model, clickbox);
+
+		clientValues.put("getCameraX", 101);
+		assertFalse(workspace.isCached(client, model, 0, 1, 2, 3));
+
+		// the new clickbox replaces the old one
+		Shape moved = new Rectangle(5, 6, 7, 8);
+		workspace.cache(model, moved);
+		assertTrue(workspace.isCached(client, model, 0, 1, 2, 3));
+		assertSame(moved, workspace.getCachedClickbox());
+		assertEquals(1, workspace.size());
+	}
+
+	@Test
+	public void testVertexChange()
+	{
+		workspace.isCached(client, model, 0, 1, 2, 3);
+		workspace.cache(model, clickbox);
+
+		// animations change the vertices of the same model
+		((float[]) modelValues.get("getVerticesY"))[1] = -50f;
+		assertFalse(workspace.isCached(client, model, 0, 1, 2, 3));
+	}
+
+	@Test
+	public void testHiddenFaceChange()
+	{
+		workspace.isCached(client, model, 0, 1, 2, 3);
+		workspace.cache(model, clickbox);
+
+		((int[]) modelValues.get("getFaceColors3"))[0] = -2;
+		assertFalse(workspace.isCached(client, model, 0, 1, 2, 3));
+		workspace.cache(model, clickbox);
+		assertTrue(workspace.isCached(client, model, 0, 1, 2, 3));
+
+		// hiding a different face is a different key
+		int[] faceColors3 = (int[]) modelValues.get("getFaceColors3");
+		faceColors3[0] = 0;
+		faceColors3[1] = -2;
+		assertFalse(workspace.isCached(client, model, 0, 1, 2, 3));
+	}
+
+	@Test
+	public void testEvictUnused()
+	{
+		Model other = createModel(new HashMap<>());
+
+		workspace.isCached(client, model, 0, 1, 2, 3);
+		workspace.cache(model, clickbox);
+		workspace.isCached(client, other, 0, 1, 2, 3);
+		workspace.cache(other, clickbox);
+		assertEquals(2, workspace.size());
+
+		// only the first model is drawn in the next cycle
+		clientValues.put("getGameCycle", 2);
+		assertTrue(workspace.isCached(client, model, 0, 1, 2, 3));
+		assertEquals(2, workspace.size());
+
+		clientValues.put("getGameCycle", 3);
+		assertTrue(workspace.isCached(client, model, 0, 1, 2, 3));
+		assertEquals(1, workspace.size());
+		assertFalse(workspace.isCached(client, other, 0, 1, 2, 3));
+	}
+
+	private static Model createModel(Map<String, Object> values)
+	{
+		values.put("getVerticesCount", 3);
+		values.put("getFaceCount", 2);
+		values.put("getVerticesX", new float[]{0f, 10f, 20f});
+		values.put("getVerticesY", new float[]{0f, -10f, 0f});
+		values.put("getVerticesZ", new float[]{5f, 5f, 5f});
+		values.put("getFaceColors3", new int[]{0, 0});
+		return proxy(Model.class, values);
+	}
+
+	private static <T> T proxy(Class<T> type, Map<String, Object> values)
+	{
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			if (method.getDeclaringClass() == Object.class)
+			{
+				switch (method.getName())
+				{
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						return type.getSimpleName();
+				}
+			}
+
+			Object value = values.get(method.getName());
+			if (value == null && method.getReturnType() == int.class)
+			{
+				return 0;
+			}
+			return value;
+		}));
+	}
+}
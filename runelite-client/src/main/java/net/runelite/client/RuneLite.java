@@ -73,6 +73,8 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.discord.DiscordService;
@@ -199,6 +201,8 @@ public class RuneLite
 			});
 
 		final OptionSpec<Void> insecureWriteCredentials = parser.accepts("insecure-write-credentials", "Dump authentication tokens from the Jagex Launcher to a text file to be used for development");
+		final OptionSpec<Void> startupBenchmark = parser.accepts("startup-benchmark", "Exit once the login screen is reached, logging the time taken." +
+			" Can be used with -XX:ArchiveClassesAtExit to generate a CDS archive");
 
 		parser.accepts("help", "Show this text").forHelp();
 		OptionSet options = parser.parse(args);
@@ -286,6 +290,11 @@ public class RuneLite
 			final long end = System.currentTimeMillis();
 			final long uptime = runtime.getUptime();
 			log.info("Client initialization took {}ms. Uptime: {}ms", end - start, uptime);
+
+			if (options.has(startupBenchmark))
+			{
+				injector.getInstance(RuneLite.class).exitAtLoginScreen();
+			}
 		}
 		catch (Exception e)
 		{
@@ -401,6 +410,40 @@ public class RuneLite
 		ReflectUtil.invalidateAnnotationCaches();
 	}
 
+	/**
+	 * Exit once the client reaches the login screen, for timing client startup. This is also used as the
+	 * training run for generating a class data sharing archive, since the archive is written on exit.
+	 */
+	private void exitAtLoginScreen()
+	{
+		if (client == null)
+		{
+			log.warn("Client is outdated, not waiting for the login screen");
+			System.exit(0);
+			return;
+		}
+
+		eventBus.register(GameStateChanged.class, ev ->
+		{
+			if (ev.getGameState() == GameState.LOGIN_SCREEN)
+			{
+				loginScreenReached();
+			}
+		}, 0);
+
+		// the client may have reached the login screen before the subscriber was registered
+		if (client.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			loginScreenReached();
+		}
+	}
+
+	private static void loginScreenReached()
+	{
+		log.info("Login screen reached. Uptime: {}ms", ManagementFactory.getRuntimeMXBean().getUptime());
+		System.exit(0);
+	}
+
 	@VisibleForTesting
 	public static void setInjector(Injector injector)
 	{
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ObjectArrays;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Dispatches chat messages to handlers registered with a regex pattern, a set of
+ * message types, and a literal the message must start with or contain.
+ * <p>
+ * Each message is scanned once for the literals of every pattern registered for its
+ * type, and only the patterns whose literal was found are matched against the message.
+ * This is cheaper than every plugin running its own patterns on every message.
+ */
+@Slf4j
+@Singleton
+public class ChatMessageClassifier
+{
+	private final List<ChatMessagePattern> patterns = new ArrayList<>();
+	// indexes of the registered patterns by message type, rebuilt when the patterns change
+	private volatile Map<ChatMessageType, LiteralIndex> indexes = Collections.emptyMap();
+	private int messageCount;
+
+	@Inject
+	ChatMessageClassifier(EventBus eventBus)
+	{
+		eventBus.register(this);
+	}
+
+	/**
+	 * Registers a pattern for messages starting with a literal.
+	 *
+	 * @param prefix the literal the message must start with
+	 * @param pattern the pattern to find in the message, or null to dispatch every message with the prefix
+	 * @param handler the handler, called with the message and the matcher which found the pattern,
+	 *                or a null matcher if there is no pattern
+	 * @param types the message types to test
+	 * @return the registered pattern, used to unregister it
+	 */
+	public ChatMessagePattern registerPrefix(String prefix, @Nullable Pattern pattern, BiConsumer<ChatMessage, Matcher> handler, ChatMessageType... types)
+	{
+		return register(prefix, true, pattern, handler, types);
+	}
+
+	/**
+	 * Registers a pattern for messages containing a literal.
+	 *
+	 * @param keyword the literal the message must contain
+	 * @param pattern the pattern to find in the message, or null to dispatch every message with the keyword
+	 * @param handler the handler, called with the message and the matcher which found the pattern,
+	 *                or a null matcher if there is no pattern
+	 * @param types the message types to test
+	 * @return the registered pattern, used to unregister it
+	 */
+	public ChatMessagePattern registerKeyword(String keyword, @Nullable Pattern pattern, BiConsumer<ChatMessage, Matcher> handler, ChatMessageType... types)
+	{
+		return register(keyword, false, pattern, handler, types);
+	}
+
+	private ChatMessagePattern register(String literal, boolean prefix, @Nullable Pattern pattern, BiConsumer<ChatMessage, Matcher> handler, ChatMessageType... types)
+	{
+		Preconditions.checkArgument(!literal.isEmpty(), "literal must not be empty");
+		Preconditions.checkArgument(types.length > 0, "at least one message type is required");
+
+		ChatMessagePattern chatMessagePattern = new ChatMessagePattern(EnumSet.copyOf(Arrays.asList(types)), literal, prefix, pattern, handler);
+		synchronized (patterns)
+		{
+			patterns.add(chatMessagePattern);
+			rebuild();
+		}
+		return chatMessagePattern;
+	}
+
+	public void unregister(ChatMessagePattern pattern)
+	{
+		synchronized (patterns)
+		{
+			if (patterns.remove(pattern))
+			{
+				rebuild();
+			}
+		}
+	}
+
+	public List<ChatMessagePattern> getPatterns()
+	{
+		synchronized (patterns)
+		{
+			return new ArrayList<>(patterns);
+		}
+	}
+
+	private void rebuild()
+	{
+		Map<ChatMessageType, LiteralIndex> indexes = new EnumMap<>(ChatMessageType.class);
+		for (ChatMessageType type : ChatMessageType.values())
+		{
+			List<ChatMessagePattern> forType = new ArrayList<>();
+			for (ChatMessagePattern pattern : patterns)
+			{
+				if (pattern.accepts(type))
+				{
+					forType.add(pattern);
+				}
+			}
+
+			if (!forType.isEmpty())
+			{
+				indexes.put(type, new LiteralIndex(forType));
+			}
+		}
+		this.indexes = indexes;
+	}
+
+	@Subscribe
+	public void onChatMessage(ChatMessage chatMessage)
+	{
+		LiteralIndex index = indexes.get(chatMessage.getType());
+		if (index == null)
+		{
+			return;
+		}
+
+		String message = chatMessage.getMessage();
+		int id = messageCount++;
+		if (!index.mark(message, id))
+		{
+			return;
+		}
+
+		for (ChatMessagePattern pattern : index.patterns)
+		{
+			if (pattern.lastSeen != id)
+			{
+				continue;
+			}
+
+			try
+			{
+				pattern.test(chatMessage, message);
+			}
+			catch (Exception ex)
+			{
+				log.warn("Uncaught exception in chat message handler for {}", pattern.getPattern(), ex);
+			}
+		}
+	}
+
+	/**
+	 * The literals of a set of patterns, bucketed by their first character so that a
+	 * message can be checked against all of them in one pass.
+	 */
+	private static class LiteralIndex
+	{
+		private static final int BUCKETS = 128;
+
+		// in registration order
+		private final ChatMessagePattern[] patterns;
+		private final ChatMessagePattern[][] prefixes = new ChatMessagePattern[BUCKETS][];
+		private final ChatMessagePattern[][] keywords = new ChatMessagePattern[BUCKETS][];
+		private final boolean hasKeywords;
+
+		private LiteralIndex(List<ChatMessagePattern> patterns)
+		{
+			this.patterns = patterns.toArray(new ChatMessagePattern[0]);
+
+			boolean hasKeywords = false;
+			for (ChatMessagePattern pattern : patterns)
+			{
+				ChatMessagePattern[][] buckets = pattern.isPrefix() ? prefixes : keywords;
+				int bucket = pattern.getLiteral().charAt(0) & (BUCKETS - 1);
+				buckets[bucket] = buckets[bucket] == null
+					? new ChatMessagePattern[]{pattern}
+					: ObjectArrays.concat(buckets[bucket], pattern);
+				hasKeywords |= !pattern.isPrefix();
+			}
+			this.hasKeywords = hasKeywords;
+		}
+
+		/**
+		 * Marks every pattern whose literal is found in the message.
+		 *
+		 * @return true if any pattern was marked
+		 */
+		private boolean mark(String message, int id)
+		{
+			if (message.isEmpty())
+			{
+				return false;
+			}
+
+			boolean marked = false;
+
+			ChatMessagePattern[] candidates = prefixes[message.charAt(0) & (BUCKETS - 1)];
+			if (candidates != null)
+			{
+				for (ChatMessagePattern pattern : candidates)
+				{
+					if (message.startsWith(pattern.getLiteral()))
+					{
+						pattern.lastSeen = id;
+						marked = true;
+					}
+				}
+			}
+
+			if (!hasKeywords)
+			{
+				return marked;
+			}
+
+			for (int i = 0, len = message.length(); i < len; ++i)
+			{
+				candidates = keywords[message.charAt(i) & (BUCKETS - 1)];
+				if (candidates == null)
+				{
+					continue;
+				}
+
+				for (ChatMessagePattern pattern : candidates)
+				{
+					if (pattern.lastSeen != id && message.startsWith(pattern.getLiteral(), i))
+					{
+						pattern.lastSeen = id;
+						marked = true;
+					}
+				}
+			}
+
+			return marked;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+
+/**
+ * A pattern registered with the {@link ChatMessageClassifier}, along with counters
+ * of how often it has been tested and matched.
+ */
+@Getter
+public class ChatMessagePattern
+{
+	@Getter(AccessLevel.NONE)
+	private final Set<ChatMessageType> types;
+	/**
+	 * The literal which a message must start with, or contain if this is not a prefix pattern.
+	 */
+	private final String literal;
+	private final boolean prefix;
+	@Nullable
+	private final Pattern pattern;
+	@Getter(AccessLevel.NONE)
+	private final BiConsumer<ChatMessage, Matcher> handler;
+
+	/**
+	 * Number of messages which passed the literal check and were tested against the pattern.
+	 */
+	private long checks;
+	/**
+	 * Number of messages which matched the pattern and were dispatched to the handler.
+	 */
+	private long hits;
+	/**
+	 * Total time spent matching the pattern, in nanoseconds.
+	 */
+	private long matchNanos;
+
+	// last message the literal was found in, used to dispatch each message once
+	@Getter(AccessLevel.NONE)
+	int lastSeen = -1;
+
+	ChatMessagePattern(Set<ChatMessageType> types, String literal, boolean prefix, @Nullable Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		this.types = types;
+		this.literal = literal;
+		this.prefix = prefix;
+		this.pattern = pattern;
+		this.handler = handler;
+	}
+
+	boolean accepts(ChatMessageType type)
+	{
+		return types.contains(type);
+	}
+
+	/**
+	 * Tests the message against the pattern, and dispatches it to the handler if it matches.
+	 */
+	void test(ChatMessage chatMessage, String message)
+	{
+		Matcher matcher = null;
+		if (pattern != null)
+		{
+			long start = System.nanoTime();
+			matcher = pattern.matcher(message);
+			boolean found = matcher.find();
+			matchNanos += System.nanoTime() - start;
+			++checks;
+			if (!found)
+			{
+				return;
+			}
+		}
+		else
+		{
+			++checks;
+		}
+
+		++hits;
+		handler.accept(chatMessage, matcher);
+	}
+}
@@ -36,13 +36,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -51,6 +54,8 @@ class ConfigData
 	private final File configPath;
 
 	private final ConcurrentHashMap<String, String> properties;
+	// sorted copy of the keys of properties, for prefix queries
+	private final ConcurrentSkipListSet<String> sortedKeys;
 	private Map<String, String> patchChanges = new HashMap<>();
 
 	ConfigData(File configPath)
@@ -73,6 +78,7 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+		sortedKeys = new ConcurrentSkipListSet<>(properties.keySet());
 	}
 
 	String getProperty(String key)
@@ -83,6 +89,10 @@ class ConfigData
 	synchronized String setProperty(String key, String value)
 	{
 		String old = properties.put(key, value);
+		if (old == null)
+		{
+			sortedKeys.add(key);
+		}
 		if (!Objects.equals(old, value))
 		{
 			patchChanges.put(key, value);
@@ -95,6 +105,7 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
+			sortedKeys.remove(key);
 			patchChanges.put(key, null);
 		}
 		return old;
@@ -104,6 +115,7 @@ class ConfigData
 	{
 		patchChanges.putAll(values);
 		properties.putAll(values);
+		sortedKeys.addAll(values.keySet());
 	}
 
 	Set<String> keySet()
@@ -111,6 +123,23 @@ class ConfigData
 		return properties.keySet();
 	}
 
+	/**
+	 * Get the keys starting with a prefix, in sorted order. This only visits the matching keys.
+	 */
+	List<String> keysWithPrefix(String prefix)
+	{
+		List<String> keys = new ArrayList<>();
+		for (String key : sortedKeys.tailSet(prefix))
+		{
+			if (!key.startsWith(prefix))
+			{
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
 	Map<String, String> get()
 	{
 		return Collections.unmodifiableMap(properties);
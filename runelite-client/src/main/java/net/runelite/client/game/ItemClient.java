@@ -30,6 +30,7 @@ import com.google.gson.reflect.TypeToken;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -50,6 +51,9 @@ public class ItemClient
 	private final HttpUrl apiBase, staticBase;
 	private final Gson gson;
 
+	private String pricesETag;
+	private String pricesLastModified;
+
 	@Inject
 	private ItemClient(OkHttpClient client,
 		@Named("runelite.api.base") HttpUrl apiBase,
@@ -63,6 +67,13 @@ public class ItemClient
 		this.gson = gson;
 	}
 
+	/**
+	 * Fetch the item prices. The request is made conditional on the prices from the previous call, so that
+	 * unchanged prices are not downloaded and parsed again.
+	 *
+	 * @return the item prices, or null if they could not be looked up or have not changed since the last call
+	 * @throws IOException
+	 */
 	public ItemPrice[] getPrices() throws IOException
 	{
 		HttpUrl.Builder urlBuilder = apiBase.newBuilder()
@@ -73,12 +84,26 @@ public class ItemClient
 
 		log.debug("Built URI: {}", url);
 
-		Request request = new Request.Builder()
-			.url(url)
-			.build();
+		Request.Builder requestBuilder = new Request.Builder()
+			.url(url);
 
-		try (Response response = client.newCall(request).execute())
+		if (pricesETag != null)
+		{
+			requestBuilder.header("If-None-Match", pricesETag);
+		}
+		if (pricesLastModified != null)
 		{
+			requestBuilder.header("If-Modified-Since", pricesLastModified);
+		}
+
+		try (Response response = client.newCall(requestBuilder.build()).execute())
+		{
+			if (response.code() == HTTP_NOT_MODIFIED)
+			{
+				log.debug("Prices not modified");
+				return null;
+			}
+
 			if (!response.isSuccessful())
 			{
 				log.warn("Error looking up prices: {}", response);
@@ -86,7 +111,10 @@ public class ItemClient
 			}
 
 			InputStream in = response.body().byteStream();
-			return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			ItemPrice[] prices = gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), ItemPrice[].class);
+			pricesETag = response.header("ETag");
+			pricesLastModified = response.header("Last-Modified");
+			return prices;
 		}
 		catch (JsonParseException ex)
 		{
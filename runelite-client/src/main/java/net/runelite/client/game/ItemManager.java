@@ -32,7 +32,6 @@ import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -95,7 +94,7 @@ public class ItemManager
 	@SuppressWarnings("PMD.ImmutableField")
 	private int lowPriceThreshold = 1000;
 
-	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private volatile ItemPriceTable itemPrices = ItemPriceTable.EMPTY;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
@@ -225,12 +224,7 @@ public class ItemManager
 			ItemPrice[] prices = itemClient.getPrices();
 			if (prices != null)
 			{
-				ImmutableMap.Builder<Integer, ItemPrice> map = ImmutableMap.builderWithExpectedSize(prices.length);
-				for (ItemPrice price : prices)
-				{
-					map.put(price.getId(), price);
-				}
-				itemPrices = map.build();
+				itemPrices = new ItemPriceTable(prices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -365,18 +359,7 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
-
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+		return itemPrices.search(itemName.toLowerCase());
 	}
 
 	/**
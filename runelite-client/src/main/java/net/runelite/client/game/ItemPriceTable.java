@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import net.runelite.http.api.item.ItemPrice;
+
+/**
+ * Immutable snapshot of the item prices. Prices are indexed directly by item id, and the lowercased names
+ * used by {@link #search(String)} are computed once when the snapshot is built.
+ */
+class ItemPriceTable
+{
+	static final ItemPriceTable EMPTY = new ItemPriceTable(new ItemPrice[0]);
+
+	private final ItemPrice[] pricesById;
+	private final ItemPrice[] prices;
+	private final String[] names;
+
+	ItemPriceTable(ItemPrice[] prices)
+	{
+		int maxId = -1;
+		int count = 0;
+		for (ItemPrice price : prices)
+		{
+			if (price.getId() >= 0)
+			{
+				maxId = Math.max(maxId, price.getId());
+				++count;
+			}
+		}
+
+		this.pricesById = new ItemPrice[maxId + 1];
+		this.prices = new ItemPrice[count];
+		this.names = new String[count];
+
+		int i = 0;
+		for (ItemPrice price : prices)
+		{
+			if (price.getId() >= 0)
+			{
+				pricesById[price.getId()] = price;
+				this.prices[i] = price;
+				names[i] = price.getName() == null ? "" : price.getName().toLowerCase();
+				++i;
+			}
+		}
+	}
+
+	int size()
+	{
+		return prices.length;
+	}
+
+	@Nullable
+	ItemPrice get(int itemId)
+	{
+		return itemId >= 0 && itemId < pricesById.length ? pricesById[itemId] : null;
+	}
+
+	/**
+	 * Find the items whose name contains the given string
+	 *
+	 * @param lowercaseName lowercased item name
+	 * @return matching items
+	 */
+	List<ItemPrice> search(String lowercaseName)
+	{
+		List<ItemPrice> result = new ArrayList<>();
+		for (int i = 0; i < names.length; ++i)
+		{
+			if (names[i].contains(lowercaseName))
+			{
+				result.add(prices[i]);
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.ItemComposition;
+
+/**
+ * Index of the item names, for searching items by name. The names are read from the item definitions once,
+ * and are then searched without going back to the client, which is much cheaper than decoding every item
+ * definition on each keystroke. Only canonical items (not noted, not placeholders) are indexed.
+ * <p>
+ * Searches must be done on the client thread.
+ */
+@Singleton
+public class ItemSearchIndex
+{
+	private final Client client;
+	private final ItemManager itemManager;
+
+	private int itemCount = -1;
+	private int[] ids;
+	private String[] names;
+	private String[] lowercaseNames;
+	private boolean[] tradeable;
+
+	// result of the previous search, which further typing narrows
+	private String lastSearch;
+	private boolean lastTradeableOnly;
+	private int[] lastResult;
+
+	@Inject
+	private ItemSearchIndex(Client client, ItemManager itemManager)
+	{
+		this.client = client;
+		this.itemManager = itemManager;
+	}
+
+	private void build()
+	{
+		final int count = client.getItemCount();
+		if (count == itemCount)
+		{
+			return;
+		}
+
+		final int[] ids = new int[count];
+		final String[] names = new String[count];
+		final String[] lowercaseNames = new String[count];
+		final boolean[] tradeable = new boolean[count];
+
+		int size = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			if (itemManager.canonicalize(i) != i)
+			{
+				continue;
+			}
+
+			final ItemComposition itemComposition = itemManager.getItemComposition(i);
+			final String name = itemComposition.getName();
+			// The client assigns "null" to item names of items it doesn't know about
+			if (name == null || name.equals("null"))
+			{
+				continue;
+			}
+
+			ids[size] = i;
+			names[size] = name;
+			lowercaseNames[size] = name.toLowerCase();
+			tradeable[size] = itemComposition.isTradeable() && itemComposition.getNote() == -1;
+			++size;
+		}
+
+		this.ids = Arrays.copyOf(ids, size);
+		this.names = Arrays.copyOf(names, size);
+		this.lowercaseNames = Arrays.copyOf(lowercaseNames, size);
+		this.tradeable = Arrays.copyOf(tradeable, size);
+		this.itemCount = count;
+		lastSearch = null;
+		lastResult = null;
+	}
+
+	/**
+	 * Find the items whose name contains the search string. If the search contains the previous
+	 * search string, only the results of the previous search are checked.
+	 *
+	 * @param search lowercased search string
+	 * @param tradeableOnly only include grand exchange tradeable items
+	 * @return ids of the matching items, in item id order
+	 */
+	public int[] search(String search, boolean tradeableOnly)
+	{
+		assert client.isClientThread();
+		build();
+
+		final int[] candidates = lastSearch != null && lastTradeableOnly == tradeableOnly && search.contains(lastSearch)
+			? lastResult
+			: null;
+
+		int[] result = new int[candidates != null ? candidates.length : ids.length];
+		int size = 0;
+		if (candidates != null)
+		{
+			for (int idx : candidates)
+			{
+				if (lowercaseNames[idx].contains(search))
+				{
+					result[size++] = idx;
+				}
+			}
+		}
+		else
+		{
+			for (int idx = 0; idx < ids.length; ++idx)
+			{
+				if ((!tradeableOnly || tradeable[idx]) && lowercaseNames[idx].contains(search))
+				{
+					result[size++] = idx;
+				}
+			}
+		}
+
+		result = Arrays.copyOf(result, size);
+		lastSearch = search;
+		lastTradeableOnly = tradeableOnly;
+		lastResult = result;
+
+		final int[] itemIds = new int[size];
+		for (int i = 0; i < size; ++i)
+		{
+			itemIds[i] = ids[result[i]];
+		}
+		return itemIds;
+	}
+
+	/**
+	 * Find the highest scoring grand exchange tradeable items, without sorting every item.
+	 *
+	 * @param scorer scores an item name, higher is better. Items scoring 0 or less are excluded.
+	 * @param limit maximum number of results
+	 * @return ids of the best items, best first, ties ordered by name
+	 */
+	public int[] top(ToDoubleFunction<String> scorer, int limit)
+	{
+		assert client.isClientThread();
+		build();
+
+		final double[] scores = new double[ids.length];
+		// worst item at the head, so that it is the one evicted
+		final Comparator<Integer> order = Comparator.<Integer>comparingDouble(idx -> scores[idx])
+			.thenComparing(idx -> names[idx], Comparator.reverseOrder());
+		final PriorityQueue<Integer> queue = new PriorityQueue<>(limit + 1, order);
+		for (int idx = 0; idx < ids.length; ++idx)
+		{
+			if (!tradeable[idx])
+			{
+				continue;
+			}
+
+			final double score = scorer.applyAsDouble(names[idx]);
+			if (score <= 0)
+			{
+				continue;
+			}
+
+			scores[idx] = score;
+			queue.add(idx);
+			if (queue.size() > limit)
+			{
+				queue.poll();
+			}
+		}
+
+		final int[] itemIds = new int[queue.size()];
+		for (int i = itemIds.length - 1; i >= 0; --i)
+		{
+			itemIds[i] = ids[queue.poll()];
+		}
+		return itemIds;
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+/**
+ * Index of the tile objects currently loaded in the scene, kept up to date from the object spawn and despawn events.
+ * Lookups by id or by tile cost time proportional to the number of matches, instead of requiring a walk over every
+ * tile of the scene.
+ * <p>
+ * The index is only read and written on the client thread.
+ */
+@Singleton
+public class SceneObjectIndex
+{
+	/**
+	 * Receives the spawns and despawns of objects with the ids a listener was registered for.
+	 */
+	public interface ObjectListener
+	{
+		void objectSpawned(TileObject object);
+
+		default void objectDespawned(TileObject object)
+		{
+		}
+	}
+
+	private final Client client;
+	private final Map<TileObject, WorldPoint> objects = new HashMap<>();
+	private final SetMultimap<Integer, TileObject> objectsById = LinkedHashMultimap.create();
+	private final SetMultimap<WorldPoint, TileObject> objectsByTile = LinkedHashMultimap.create();
+	private final SetMultimap<Integer, ObjectListener> listeners = LinkedHashMultimap.create();
+
+	@Inject
+	private SceneObjectIndex(Client client, ClientThread clientThread, EventBus eventBus)
+	{
+		this.client = client;
+		eventBus.register(this);
+		// pick up the objects which spawned before the index was created. This walks the scene directly rather
+		// than using GameEventManager.simulateGameEvents, which unregisters the subscriber once it is done.
+		clientThread.invoke(this::indexScene);
+	}
+
+	private void indexScene()
+	{
+		if (client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+
+		final Tile[][][] tiles = client.getScene().getTiles();
+		for (int z = 0; z < Constants.MAX_Z; ++z)
+		{
+			for (int x = 0; x < Constants.SCENE_SIZE; ++x)
+			{
+				for (int y = 0; y < Constants.SCENE_SIZE; ++y)
+				{
+					Tile tile = tiles[z][x][y];
+					if (tile == null)
+					{
+						continue;
+					}
+
+					indexTile(tile);
+
+					if (tile.getBridge() != null)
+					{
+						indexTile(tile.getBridge());
+					}
+				}
+			}
+		}
+	}
+
+	private void indexTile(Tile tile)
+	{
+		if (tile.getWallObject() != null)
+		{
+			add(tile, tile.getWallObject());
+		}
+
+		if (tile.getDecorativeObject() != null)
+		{
+			add(tile, tile.getDecorativeObject());
+		}
+
+		if (tile.getGroundObject() != null)
+		{
+			add(tile, tile.getGroundObject());
+		}
+
+		for (GameObject object : tile.getGameObjects())
+		{
+			// objects larger than a tile are on each of their tiles, index them from their sw tile only
+			if (object != null && object.getSceneMinLocation().equals(tile.getSceneLocation()))
+			{
+				add(tile, object);
+			}
+		}
+	}
+
+	/**
+	 * Get the objects in the scene with the given id. Only the base id of each object is indexed, so objects
+	 * currently transformed into the id through an impostor are not returned.
+	 *
+	 * @param id object id
+	 * @return the matching objects
+	 */
+	public Collection<TileObject> getObjects(int id)
+	{
+		return Collections.unmodifiableSet(objectsById.get(id));
+	}
+
+	/**
+	 * Get the objects in the scene on the given tile.
+	 *
+	 * @param worldPoint tile location
+	 * @return the objects on the tile
+	 */
+	public Collection<TileObject> getObjects(WorldPoint worldPoint)
+	{
+		return Collections.unmodifiableSet(objectsByTile.get(worldPoint));
+	}
+
+	/**
+	 * Get the objects in the scene whose name, or whose current impostor's name, is the given name. Names are
+	 * resolved once per distinct object id in the scene, rather than once per object.
+	 *
+	 * @param name object name
+	 * @return the matching objects
+	 */
+	public List<TileObject> getObjects(String name)
+	{
+		List<TileObject> matches = new ArrayList<>();
+		for (int id : objectsById.keySet())
+		{
+			final ObjectComposition comp = client.getObjectDefinition(id);
+			if (comp == null)
+			{
+				continue;
+			}
+
+			final ObjectComposition impostor = comp.getImpostorIds() != null ? comp.getImpostor() : null;
+			if (name.equals(comp.getName()) || impostor != null && name.equals(impostor.getName()))
+			{
+				matches.addAll(objectsById.get(id));
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Register a listener for the spawns and despawns of objects with any of the given ids. The listener is
+	 * immediately told about the matching objects already in the scene. As with the object events, no despawns are
+	 * sent when the scene is reloaded.
+	 *
+	 * @param ids      object ids
+	 * @param listener listener
+	 */
+	public void register(Collection<Integer> ids, ObjectListener listener)
+	{
+		for (int id : ids)
+		{
+			listeners.put(id, listener);
+			for (TileObject object : objectsById.get(id))
+			{
+				listener.objectSpawned(object);
+			}
+		}
+	}
+
+	public void unregister(ObjectListener listener)
+	{
+		listeners.values().removeIf(l -> l == listener);
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		if (gameStateChanged.getGameState() == GameState.LOADING)
+		{
+			objects.clear();
+			objectsById.clear();
+			objectsByTile.clear();
+		}
+	}
+
+	@Subscribe
+	public void onGameObjectSpawned(GameObjectSpawned event)
+	{
+		add(event.getTile(), event.getGameObject());
+	}
+
+	@Subscribe
+	public void onGameObjectDespawned(GameObjectDespawned event)
+	{
+		remove(event.getGameObject());
+	}
+
+	@Subscribe
+	public void onWallObjectSpawned(WallObjectSpawned event)
+	{
+		add(event.getTile(), event.getWallObject());
+	}
+
+	@Subscribe
+	public void onWallObjectDespawned(WallObjectDespawned event)
+	{
+		remove(event.getWallObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
+	{
+		add(event.getTile(), event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event)
+	{
+		remove(event.getDecorativeObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectSpawned(GroundObjectSpawned event)
+	{
+		add(event.getTile(), event.getGroundObject());
+	}
+
+	@Subscribe
+	public void onGroundObjectDespawned(GroundObjectDespawned event)
+	{
+		remove(event.getGroundObject());
+	}
+
+	private void add(Tile tile, TileObject object)
+	{
+		final WorldPoint worldPoint = tile.getWorldLocation();
+		if (objects.putIfAbsent(object, worldPoint) != null)
+		{
+			// already indexed, eg. by the initial scan of the scene
+			return;
+		}
+
+		final int id = object.getId();
+		objectsById.put(id, object);
+		objectsByTile.put(worldPoint, object);
+
+		for (ObjectListener listener : listenersFor(id))
+		{
+			listener.objectSpawned(object);
+		}
+	}
+
+	private void remove(TileObject object)
+	{
+		final WorldPoint worldPoint = objects.remove(object);
+		if (worldPoint == null)
+		{
+			return;
+		}
+
+		final int id = object.getId();
+		objectsById.remove(id, object);
+		objectsByTile.remove(worldPoint, object);
+
+		for (ObjectListener listener : listenersFor(id))
+		{
+			listener.objectDespawned(object);
+		}
+	}
+
+	private Collection<ObjectListener> listenersFor(int id)
+	{
+		final Collection<ObjectListener> l = listeners.get(id);
+		// copy so that listeners may unregister themselves while being called
+		return l.isEmpty() ? l : ImmutableList.copyOf(l);
+	}
+}
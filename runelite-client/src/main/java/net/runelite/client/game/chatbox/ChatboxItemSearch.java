@@ -36,7 +36,6 @@ import java.util.function.Consumer;
 import javax.inject.Singleton;
 import lombok.Getter;
 import lombok.Value;
-import net.runelite.api.Client;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.api.widgets.JavaScriptCallback;
@@ -47,6 +46,7 @@ import net.runelite.api.widgets.WidgetTextAlignment;
 import net.runelite.api.widgets.WidgetType;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSearchIndex;
 import net.runelite.client.ui.JagexColors;
 
 @Singleton
@@ -61,7 +61,7 @@ public class ChatboxItemSearch extends ChatboxTextInput
 
 	private final ChatboxPanelManager chatboxPanelManager;
 	private final ItemManager itemManager;
-	private final Client client;
+	private final ItemSearchIndex itemSearchIndex;
 
 	private final Map<Integer, ItemComposition> results = new LinkedHashMap<>();
 	private String tooltipText;
@@ -82,12 +82,12 @@ public class ChatboxItemSearch extends ChatboxTextInput
 
 	@Inject
 	private ChatboxItemSearch(ChatboxPanelManager chatboxPanelManager, ClientThread clientThread,
-		ItemManager itemManager, Client client)
+		ItemManager itemManager, ItemSearchIndex itemSearchIndex)
 	{
 		super(chatboxPanelManager, clientThread);
 		this.chatboxPanelManager = chatboxPanelManager;
 		this.itemManager = itemManager;
-		this.client = client;
+		this.itemSearchIndex = itemSearchIndex;
 
 		lines(1);
 		prompt("Item Search");
@@ -307,27 +307,26 @@ public class ChatboxItemSearch extends ChatboxTextInput
 		}
 
 		Set<ItemIcon> itemIcons = new HashSet<>();
-		for (int i = 0; i < client.getItemCount() && results.size() < MAX_RESULTS; i++)
+		for (int itemId : itemSearchIndex.search(search, false))
 		{
-			ItemComposition itemComposition = itemManager.getItemComposition(itemManager.canonicalize(i));
-			String name = itemComposition.getName().toLowerCase();
-
-			// The client assigns "null" to item names of items it doesn't know about
-			// and the item might already be in the results from canonicalize
-			if (!name.equals("null") && name.contains(search) && !results.containsKey(itemComposition.getId()))
+			if (results.size() >= MAX_RESULTS)
 			{
-				// Check if the results already contain the same item image
-				ItemIcon itemIcon = new ItemIcon(itemComposition.getInventoryModel(),
-					itemComposition.getAmbient(), itemComposition.getContrast(),
-					itemComposition.getColorToReplaceWith(), itemComposition.getTextureToReplaceWith());
-				if (itemIcons.contains(itemIcon))
-				{
-					continue;
-				}
+				break;
+			}
+
+			ItemComposition itemComposition = itemManager.getItemComposition(itemId);
 
-				itemIcons.add(itemIcon);
-				results.put(itemComposition.getId(), itemComposition);
+			// Check if the results already contain the same item image
+			ItemIcon itemIcon = new ItemIcon(itemComposition.getInventoryModel(),
+				itemComposition.getAmbient(), itemComposition.getContrast(),
+				itemComposition.getColorToReplaceWith(), itemComposition.getTextureToReplaceWith());
+			if (itemIcons.contains(itemIcon))
+			{
+				continue;
 			}
+
+			itemIcons.add(itemIcon);
+			results.put(itemComposition.getId(), itemComposition);
 		}
 	}
 
@@ -31,6 +31,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import net.runelite.api.Client;
@@ -51,6 +53,8 @@ class NpcOverlay extends Overlay
 	private final Client client;
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final Map<NPC, HighlightedNpc> highlightedNpcs;
+	private final List<HighlightedNpc> renderNpcs = new ArrayList<>();
+	private BasicStroke stroke;
 
 	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, Map<NPC, HighlightedNpc> highlightedNpcs)
 	{
@@ -64,28 +68,63 @@ class NpcOverlay extends Overlay
 	@Override
 	public Dimension render(Graphics2D graphics)
 	{
+		// The render predicates are plugin code, so evaluate them once per frame
+		// rather than once for the outline pass and again for the overlay pass
+		renderNpcs.clear();
 		for (HighlightedNpc highlightedNpc : highlightedNpcs.values())
+		{
+			if (shouldRender(highlightedNpc))
+			{
+				renderNpcs.add(highlightedNpc);
+			}
+		}
+
+		// Outlines are drawn first in a single batch, so that highlighting many npcs
+		// with the same style only needs one outline pass
+		modelOutlineRenderer.beginBatch();
+		try
+		{
+			for (HighlightedNpc highlightedNpc : renderNpcs)
+			{
+				if (highlightedNpc.isOutline())
+				{
+					modelOutlineRenderer.drawOutline(highlightedNpc.getNpc(), (int) highlightedNpc.getBorderWidth(),
+						highlightedNpc.getHighlightColor(), highlightedNpc.getOutlineFeather());
+				}
+			}
+		}
+		finally
+		{
+			modelOutlineRenderer.endBatch();
+		}
+
+		for (HighlightedNpc highlightedNpc : renderNpcs)
 		{
 			renderNpcOverlay(graphics, highlightedNpc);
 		}
 
+		renderNpcs.clear();
 		return null;
 	}
 
-	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	private static boolean shouldRender(HighlightedNpc highlightedNpc)
 	{
 		NPC actor = highlightedNpc.getNpc();
 		NPCComposition npcComposition = actor.getTransformedComposition();
 		if (npcComposition == null || !npcComposition.isInteractible())
 		{
-			return;
+			return false;
 		}
 
 		Predicate<NPC> render = highlightedNpc.getRender();
-		if (render != null && !render.test(actor))
-		{
-			return;
-		}
+		return render == null || render.test(actor);
+	}
+
+	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
+	{
+		NPC actor = highlightedNpc.getNpc();
+		NPCComposition npcComposition = actor.getTransformedComposition();
+		final int size = npcComposition.getSize();
 
 		final Color borderColor = highlightedNpc.getHighlightColor();
 		float borderWidth = highlightedNpc.getBorderWidth();
@@ -103,23 +142,26 @@ class NpcOverlay extends Overlay
 			renderPoly(graphics, borderColor, borderWidth, fillColor, tilePoly);
 		}
 
-		if (highlightedNpc.isTrueTile())
+		// The true tile styles share the npc's true location, and for a single tile npc
+		// the south west true tile is the same polygon as its true tile
+		Polygon trueTilePoly = null;
+		LocalPoint trueLp = null; // centered on sw tile
+		if (highlightedNpc.isTrueTile() || highlightedNpc.isSwTrueTile())
 		{
-			LocalPoint lp = LocalPoint.fromWorld(client, actor.getWorldLocation()); // centered on sw tile
-			if (lp != null)
-			{
-				final int size = npcComposition.getSize();
-				final LocalPoint centerLp = lp.plus(
-					Perspective.LOCAL_TILE_SIZE * (size - 1) / 2,
-					Perspective.LOCAL_TILE_SIZE * (size - 1) / 2);
-				Polygon tilePoly = Perspective.getCanvasTileAreaPoly(client, centerLp, size);
-				renderPoly(graphics, borderColor, borderWidth, fillColor, tilePoly);
-			}
+			trueLp = LocalPoint.fromWorld(client, actor.getWorldLocation());
+		}
+
+		if (highlightedNpc.isTrueTile() && trueLp != null)
+		{
+			final LocalPoint centerLp = trueLp.plus(
+				Perspective.LOCAL_TILE_SIZE * (size - 1) / 2,
+				Perspective.LOCAL_TILE_SIZE * (size - 1) / 2);
+			trueTilePoly = Perspective.getCanvasTileAreaPoly(client, centerLp, size);
+			renderPoly(graphics, borderColor, borderWidth, fillColor, trueTilePoly);
 		}
 
 		if (highlightedNpc.isSwTile())
 		{
-			int size = npcComposition.getSize();
 			LocalPoint lp = actor.getLocalLocation().plus(
 				-((size - 1) * Perspective.LOCAL_TILE_SIZE / 2),
 				-((size - 1) * Perspective.LOCAL_TILE_SIZE / 2));
@@ -128,19 +170,12 @@ class NpcOverlay extends Overlay
 			renderPoly(graphics, borderColor, borderWidth, fillColor, southWestTilePoly);
 		}
 
-		if (highlightedNpc.isSwTrueTile())
-		{
-			LocalPoint lp = LocalPoint.fromWorld(client, actor.getWorldLocation());
-			if (lp != null)
-			{
-				Polygon tilePoly = Perspective.getCanvasTilePoly(client, lp);
-				renderPoly(graphics, borderColor, borderWidth, fillColor, tilePoly);
-			}
-		}
-
-		if (highlightedNpc.isOutline())
+		if (highlightedNpc.isSwTrueTile() && trueLp != null)
 		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
+			Polygon swTrueTilePoly = size == 1 && trueTilePoly != null
+				? trueTilePoly
+				: Perspective.getCanvasTilePoly(client, trueLp);
+			renderPoly(graphics, borderColor, borderWidth, fillColor, swTrueTilePoly);
 		}
 
 		if (highlightedNpc.isName() && actor.getName() != null)
@@ -160,10 +195,20 @@ class NpcOverlay extends Overlay
 		if (polygon != null)
 		{
 			graphics.setColor(borderColor);
-			graphics.setStroke(new BasicStroke(borderWidth));
+			graphics.setStroke(getStroke(borderWidth));
 			graphics.draw(polygon);
 			graphics.setColor(fillColor);
 			graphics.fill(polygon);
 		}
 	}
+
+	private BasicStroke getStroke(float width)
+	{
+		// highlights almost always share one border width, so keep the last stroke instead of allocating one per polygon
+		if (stroke == null || stroke.getLineWidth() != width)
+		{
+			stroke = new BasicStroke(width);
+		}
+		return stroke;
+	}
 }
@@ -24,17 +24,44 @@
  */
 package net.runelite.client.hiscore;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.LoadingCache;
-import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ClientShutdown;
 
+@Slf4j
 @Singleton
 public class HiscoreManager
 {
@@ -46,20 +73,82 @@ public class HiscoreManager
 		HiscoreEndpoint type;
 	}
 
-	static final HiscoreResult EMPTY = new HiscoreResult(null, ImmutableMap.of());
-	static final HiscoreResult NONE = new HiscoreResult(null, ImmutableMap.of());
+	@Value
+	static class CachedResult
+	{
+		String username;
+		HiscoreEndpoint type;
+		/**
+		 * the looked up result, or null if the player is not on the hiscores
+		 */
+		@Nullable
+		HiscoreResult result;
+		long time;
+	}
+
+	private static final File CACHE_FILE = new File(RuneLite.CACHE_DIR, "hiscores.json");
+	private static final Type CACHE_TYPE = new TypeToken<List<CachedResult>>()
+	{
+	}.getType();
+
+	private static final int CACHE_SIZE = 128;
+	private static final long CACHE_DURATION = TimeUnit.HOURS.toMillis(1);
+	private static final long SAVE_DELAY = 60;
 
-	private final LoadingCache<HiscoreKey, HiscoreResult> hiscoreCache;
+	/**
+	 * Maximum number of asynchronous lookups in flight at once
+	 */
+	static final int MAX_CONCURRENT_LOOKUPS = 2;
+	/**
+	 * Maximum number of asynchronous lookups waiting to be sent. Lookups past this are dropped, and will be
+	 * retried the next time they are requested.
+	 */
+	static final int MAX_QUEUED_LOOKUPS = 32;
+
+	private final ScheduledExecutorService executor;
 	private final HiscoreClient hiscoreClient;
+	private final Gson gson;
+	private final File cacheFile;
+
+	private final Cache<HiscoreKey, CachedResult> hiscoreCache = CacheBuilder.newBuilder()
+		.maximumSize(CACHE_SIZE)
+		.build();
+	// lookups which are queued or in flight, so concurrent lookups of the same player share one request
+	private final Map<HiscoreKey, CompletableFuture<HiscoreResult>> pending = new HashMap<>();
+	private final Deque<HiscoreKey> queue = new ArrayDeque<>();
+	private int running;
+	private boolean saveScheduled;
 
 	@Inject
-	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient)
+	private HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, Gson gson, EventBus eventBus)
 	{
+		this(executor, hiscoreClient, gson, CACHE_FILE);
+		eventBus.register(this);
+	}
+
+	HiscoreManager(ScheduledExecutorService executor, HiscoreClient hiscoreClient, Gson gson, File cacheFile)
+	{
+		this.executor = executor;
 		this.hiscoreClient = hiscoreClient;
-		hiscoreCache = CacheBuilder.newBuilder()
-			.maximumSize(128L)
-			.expireAfterWrite(1, TimeUnit.HOURS)
-			.build(new HiscoreLoader(executor, hiscoreClient));
+		this.gson = gson;
+		this.cacheFile = cacheFile;
+		executor.execute(this::load);
+	}
+
+	@Subscribe
+	public void onClientShutdown(ClientShutdown event)
+	{
+		boolean save;
+		synchronized (this)
+		{
+			save = saveScheduled;
+			saveScheduled = false;
+		}
+
+		if (save)
+		{
+			save();
+		}
 	}
 
 	/**
@@ -73,21 +162,59 @@ public class HiscoreManager
 	public HiscoreResult lookup(String username, HiscoreEndpoint endpoint) throws IOException
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		CachedResult cachedResult = getCached(hiscoreKey);
+		if (cachedResult != null)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			return cachedResult.getResult();
 		}
 
-		hiscoreResult = hiscoreClient.lookup(username, endpoint);
-		if (hiscoreResult == null)
+		CompletableFuture<HiscoreResult> future;
+		boolean fetch = false;
+		synchronized (this)
 		{
-			hiscoreCache.put(hiscoreKey, NONE);
-			return null;
+			future = pending.get(hiscoreKey);
+			if (future == null)
+			{
+				future = new CompletableFuture<>();
+				pending.put(hiscoreKey, future);
+				fetch = true;
+			}
+			else if (queue.remove(hiscoreKey))
+			{
+				// take over the queued lookup rather than waiting behind the rest of the queue
+				fetch = true;
+			}
 		}
 
-		hiscoreCache.put(hiscoreKey, hiscoreResult);
-		return hiscoreResult;
+		if (fetch)
+		{
+			try
+			{
+				complete(hiscoreKey, hiscoreClient.lookup(username, endpoint), null);
+			}
+			catch (IOException ex)
+			{
+				complete(hiscoreKey, null, ex);
+			}
+		}
+
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof IOException)
+			{
+				throw (IOException) ex.getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
 	}
 
 	/**
@@ -100,13 +227,191 @@ public class HiscoreManager
 	public HiscoreResult lookupAsync(String username, HiscoreEndpoint endpoint)
 	{
 		HiscoreKey hiscoreKey = new HiscoreKey(username, endpoint);
-		HiscoreResult hiscoreResult = hiscoreCache.getIfPresent(hiscoreKey);
-		if (hiscoreResult != null && hiscoreResult != EMPTY)
+		CachedResult cachedResult = getCached(hiscoreKey);
+		if (cachedResult != null)
+		{
+			return cachedResult.getResult();
+		}
+
+		synchronized (this)
 		{
-			return hiscoreResult == NONE ? null : hiscoreResult;
+			if (pending.containsKey(hiscoreKey) || queue.size() >= MAX_QUEUED_LOOKUPS)
+			{
+				return null;
+			}
+
+			log.debug("Queueing hiscore lookup for {} type {}", username, endpoint);
+			pending.put(hiscoreKey, new CompletableFuture<>());
+			queue.add(hiscoreKey);
 		}
 
-		hiscoreCache.refresh(hiscoreKey);
+		dispatch();
 		return null;
 	}
+
+	@Nullable
+	private CachedResult getCached(HiscoreKey hiscoreKey)
+	{
+		CachedResult cachedResult = hiscoreCache.getIfPresent(hiscoreKey);
+		if (cachedResult != null && System.currentTimeMillis() - cachedResult.getTime() >= CACHE_DURATION)
+		{
+			hiscoreCache.invalidate(hiscoreKey);
+			return null;
+		}
+		return cachedResult;
+	}
+
+	private void dispatch()
+	{
+		HiscoreKey hiscoreKey;
+		synchronized (this)
+		{
+			if (running >= MAX_CONCURRENT_LOOKUPS || queue.isEmpty())
+			{
+				return;
+			}
+
+			hiscoreKey = queue.poll();
+			++running;
+		}
+
+		log.debug("Submitting hiscore lookup for {} type {}", hiscoreKey.getUsername(), hiscoreKey.getType());
+
+		hiscoreClient.lookupAsync(hiscoreKey.getUsername(), hiscoreKey.getType()).whenComplete((result, ex) ->
+		{
+			synchronized (this)
+			{
+				--running;
+			}
+
+			if (ex != null)
+			{
+				// failed lookups are cached as not found, so they aren't immediately retried
+				log.warn("Unable to look up hiscore!", ex);
+				complete(hiscoreKey, null, null);
+			}
+			else
+			{
+				complete(hiscoreKey, result, null);
+			}
+
+			dispatch();
+		});
+
+		// there may be capacity for more than one lookup
+		dispatch();
+	}
+
+	private void complete(HiscoreKey hiscoreKey, @Nullable HiscoreResult result, @Nullable Throwable ex)
+	{
+		CompletableFuture<HiscoreResult> future;
+		synchronized (this)
+		{
+			future = pending.remove(hiscoreKey);
+
+			if (ex == null)
+			{
+				hiscoreCache.put(hiscoreKey, new CachedResult(hiscoreKey.getUsername(), hiscoreKey.getType(), result, System.currentTimeMillis()));
+
+				if (result != null && !saveScheduled)
+				{
+					saveScheduled = true;
+					executor.schedule(this::scheduledSave, SAVE_DELAY, TimeUnit.SECONDS);
+				}
+			}
+		}
+
+		if (future != null)
+		{
+			if (ex != null)
+			{
+				future.completeExceptionally(ex);
+			}
+			else
+			{
+				future.complete(result);
+			}
+		}
+	}
+
+	private void load()
+	{
+		List<CachedResult> results;
+		try (FileInputStream in = new FileInputStream(cacheFile);
+			FileChannel channel = in.getChannel();
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			channel.lock(0, Long.MAX_VALUE, true);
+			results = gson.fromJson(reader, CACHE_TYPE);
+		}
+		catch (FileNotFoundException ex)
+		{
+			return;
+		}
+		catch (IOException | JsonSyntaxException e)
+		{
+			log.debug("error loading hiscore cache", e);
+			return;
+		}
+
+		if (results == null)
+		{
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		synchronized (this)
+		{
+			for (CachedResult cachedResult : results)
+			{
+				HiscoreKey hiscoreKey = new HiscoreKey(cachedResult.getUsername(), cachedResult.getType());
+				if (now - cachedResult.getTime() < CACHE_DURATION && hiscoreCache.getIfPresent(hiscoreKey) == null)
+				{
+					hiscoreCache.put(hiscoreKey, cachedResult);
+				}
+			}
+		}
+
+		log.debug("Loaded {} cached hiscores", hiscoreCache.size());
+	}
+
+	private void scheduledSave()
+	{
+		synchronized (this)
+		{
+			if (!saveScheduled)
+			{
+				return;
+			}
+			saveScheduled = false;
+		}
+
+		save();
+	}
+
+	void save()
+	{
+		long now = System.currentTimeMillis();
+		List<CachedResult> results = new ArrayList<>();
+		for (CachedResult cachedResult : hiscoreCache.asMap().values())
+		{
+			// only found players are persisted, as a not found result may be from a failed lookup
+			if (cachedResult.getResult() != null && now - cachedResult.getTime() < CACHE_DURATION)
+			{
+				results.add(cachedResult);
+			}
+		}
+
+		try (FileOutputStream out = new FileOutputStream(cacheFile);
+			FileChannel channel = out.getChannel();
+			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+		{
+			channel.lock();
+			gson.toJson(results, CACHE_TYPE, writer);
+		}
+		catch (IOException e)
+		{
+			log.debug("error saving hiscore cache", e);
+		}
+	}
 }
@@ -25,8 +25,14 @@
 package net.runelite.client.party;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
@@ -159,13 +165,29 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		send(c2s);
 	}
 
+	/**
+	 * Send a message to the party. Each message is sent as its own json payload rather than batched, since
+	 * party members drop payloads whose type they have not registered, so a new batched or binary message
+	 * type would be lost on older clients.
+	 */
 	void send(WebsocketMessage message)
 	{
 		log.debug("Sending: {}", message);
-		final String json = gson.toJson(message, WebsocketMessage.class);
+		// serialize straight into the protobuf bytes, instead of going through an intermediate string
+		final com.google.protobuf.ByteString.Output json = com.google.protobuf.ByteString.newOutput();
+		try (Writer writer = new OutputStreamWriter(json, StandardCharsets.UTF_8))
+		{
+			gson.toJson(message, WebsocketMessage.class, writer);
+		}
+		catch (IOException | JsonIOException e)
+		{
+			log.warn("Failed to serialize message {}", message, e);
+			return;
+		}
+
 		final Party.Data data = Party.Data.newBuilder()
 			.setType(message.getClass().getSimpleName())
-			.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+			.setData(json.toByteString())
 			.build();
 		final Party.C2S c2s = Party.C2S.newBuilder()
 			.setData(data)
@@ -205,7 +227,7 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		Party.S2C s2c;
 		try
 		{
-			s2c = Party.S2C.parseFrom(bytes.toByteArray());
+			s2c = Party.S2C.parseFrom(bytes.asByteBuffer());
 		}
 		catch (InvalidProtocolBufferException e)
 		{
@@ -233,7 +255,7 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 				try
 				{
-					message = gson.fromJson(data.getData().toStringUtf8(), WebsocketMessage.class);
+					message = gson.fromJson(new InputStreamReader(data.getData().newInput(), StandardCharsets.UTF_8), WebsocketMessage.class);
 				}
 				catch (JsonParseException e)
 				{
@@ -37,8 +37,11 @@ import com.google.inject.CreationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,6 +49,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -87,6 +91,10 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * Index of the core plugin classes, generated by the build-plugin-index goal
+	 */
+	private static final String PLUGIN_INDEX = "plugins.index";
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -265,16 +273,68 @@ public class PluginManager
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = readPluginIndex();
+		if (plugins == null)
+		{
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Load the plugin classes listed in the plugin index generated at build time. This avoids
+	 * having to scan the classpath and load every class in the plugin package to find the plugins.
+	 *
+	 * @return the plugin classes, or null if there is no index and the classpath must be scanned
+	 */
+	private List<Class<?>> readPluginIndex() throws IOException
+	{
+		// developer mode is typically run from an IDE, where the index may be stale or missing
+		if (developerMode)
+		{
+			return null;
+		}
+
+		try (InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				log.debug("No plugin index, falling back to classpath scanning");
+				return null;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			ClassLoader classLoader = getClass().getClassLoader();
+			List<Class<?>> plugins = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.isEmpty())
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(Class.forName(line, false, classLoader));
+				}
+				catch (ClassNotFoundException e)
+				{
+					log.warn("Plugin index is out of date, falling back to classpath scanning", e);
+					return null;
+				}
+			}
+			return plugins;
+		}
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
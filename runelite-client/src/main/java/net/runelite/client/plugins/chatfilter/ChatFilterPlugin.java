@@ -42,6 +42,7 @@ import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
 import static net.runelite.api.ChatMessageType.ENGINE;
@@ -66,6 +67,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.KeywordMatcher;
 import net.runelite.client.util.Text;
 import org.apache.commons.lang3.StringUtils;
 
@@ -96,6 +98,7 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
+	private KeywordMatcher filteredWords = KeywordMatcher.compile(Collections.emptyList());
 	private List<Pattern> filteredPatterns = Collections.emptyList();
 	private List<Pattern> filteredNamePatterns = Collections.emptyList();
 
@@ -151,6 +154,7 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		filteredWords = KeywordMatcher.compile(Collections.emptyList());
 		filteredPatterns = Collections.emptyList();
 		filteredNamePatterns = Collections.emptyList();
 		duplicateChatCache.clear();
@@ -360,6 +364,29 @@ public class ChatFilterPlugin extends Plugin
 		}
 
 		boolean filtered = false;
+		if (filteredWords.containsAny(strippedAccents))
+		{
+			switch (config.filterType())
+			{
+				case CENSOR_WORDS:
+					StringBuilder sb = new StringBuilder(strippedMessage);
+					filteredWords.forEachMatch(strippedAccents, (start, end) ->
+					{
+						for (int i = start; i < end; ++i)
+						{
+							sb.setCharAt(i, '*');
+						}
+					});
+					strippedMessage = sb.toString();
+					filtered = true;
+					break;
+				case CENSOR_MESSAGE:
+					return CENSOR_MESSAGE;
+				case REMOVE_MESSAGE:
+					return null;
+			}
+		}
+
 		for (Pattern pattern : filteredPatterns)
 		{
 			Matcher m = pattern.matcher(strippedAccents);
@@ -417,10 +444,10 @@ public class ChatFilterPlugin extends Plugin
 		List<Pattern> patterns = new ArrayList<>();
 		List<Pattern> namePatterns = new ArrayList<>();
 
-		Text.fromCSV(config.filteredWords()).stream()
+		// plain words are matched all at once, only the regexes need to be run one at a time
+		KeywordMatcher words = KeywordMatcher.compile(Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.collect(Collectors.toList()));
 
 		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
 			.map(this::stripAccents)
@@ -434,6 +461,7 @@ public class ChatFilterPlugin extends Plugin
 			.filter(Objects::nonNull)
 			.forEach(namePatterns::add);
 
+		filteredWords = words;
 		filteredPatterns = patterns;
 		filteredNamePatterns = namePatterns;
 
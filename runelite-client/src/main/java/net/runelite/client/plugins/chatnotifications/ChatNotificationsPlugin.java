@@ -53,6 +53,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.KeywordMatcher;
 import net.runelite.client.util.Text;
 
 @PluginDescriptor(
@@ -79,6 +80,8 @@ public class ChatNotificationsPlugin extends Plugin
 	//Custom Highlights
 	private Pattern usernameMatcher = null;
 	private final List<Pattern> highlightPatterns = new ArrayList<>();
+	private Pattern highlightWordPattern;
+	private KeywordMatcher highlightWords;
 
 	@Provides
 	ChatNotificationsConfig provideConfig(ConfigManager configManager)
@@ -97,6 +100,8 @@ public class ChatNotificationsPlugin extends Plugin
 	{
 		usernameMatcher = null;
 		highlightPatterns.clear();
+		highlightWordPattern = null;
+		highlightWords = null;
 	}
 
 	@Subscribe
@@ -123,17 +128,26 @@ public class ChatNotificationsPlugin extends Plugin
 	private void updateHighlights()
 	{
 		highlightPatterns.clear();
+		highlightWordPattern = null;
+		highlightWords = null;
 
 		if (!config.highlightWordsString().trim().equals(""))
 		{
 			List<String> items = Text.fromCSV(config.highlightWordsString());
+			// the word pattern is only run if the words occur in the message with tags removed, which is only
+			// possible if the words contain no tag characters
+			if (items.stream().noneMatch(s -> s.indexOf('<') != -1 || s.indexOf('>') != -1))
+			{
+				highlightWords = KeywordMatcher.compile(items);
+			}
 			String joined = items.stream()
 				.map(Text::escapeJagex) // we compare these strings to the raw Jagex ones
 				.map(this::quoteAndIgnoreColor) // regex escape and ignore nested colors in the target message
 				.collect(Collectors.joining("|"));
 			// To match <word> \b doesn't work due to <> not being in \w,
 			// so match \b or \s, as well as \A and \z for beginning and end of input respectively
-			highlightPatterns.add(Pattern.compile("(?:\\b|(?<=\\s)|\\A)(?:" + joined + ")(?:\\b|(?=\\s)|\\z)", Pattern.CASE_INSENSITIVE));
+			highlightWordPattern = Pattern.compile("(?:\\b|(?<=\\s)|\\A)(?:" + joined + ")(?:\\b|(?=\\s)|\\z)", Pattern.CASE_INSENSITIVE);
+			highlightPatterns.add(highlightWordPattern);
 		}
 
 		Splitter
@@ -272,8 +286,16 @@ public class ChatNotificationsPlugin extends Plugin
 		// The messageNode value is only set after all patterns have been processed
 		String nodeValue = messageNode.getValue();
 
+		// most messages contain none of the highlight words, which is much quicker to check than running the pattern
+		final boolean skipWordPattern = highlightWords != null && !highlightWords.containsAny(Text.removeTags(nodeValue));
+
 		for (Pattern pattern : highlightPatterns)
 		{
+			if (pattern == highlightWordPattern && skipWordPattern)
+			{
+				continue;
+			}
+
 			Matcher matcher = pattern.matcher(nodeValue);
 			if (!matcher.find())
 			{
@@ -99,6 +99,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.SceneObjectIndex;
 import net.runelite.client.game.chatbox.ChatboxPanelManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDependency;
@@ -193,6 +194,9 @@ public class ClueScrollPlugin extends Plugin
 	@Inject
 	private ItemManager itemManager;
 
+	@Inject
+	private SceneObjectIndex sceneObjectIndex;
+
 	@Inject
 	private OverlayManager overlayManager;
 
@@ -1011,9 +1015,9 @@ public class ClueScrollPlugin extends Plugin
 	}
 
 	/**
-	 * Scans all of the current plane's loaded tiles for {@link TileObject}s and passes any found objects to
-	 * {@link ClueScrollPlugin#checkClueNamedObject(ClueScroll, TileObject)} for storing in the cache of discovered
-	 * named objects.
+	 * Looks up the current plane's {@link GameObject}s with the active clue's object names and passes any found
+	 * objects to {@link ClueScrollPlugin#checkClueNamedObject(ClueScroll, TileObject)} for storing in the cache of
+	 * discovered named objects.
 	 *
 	 * @param clue The active clue scroll
 	 */
@@ -1024,23 +1028,19 @@ public class ClueScrollPlugin extends Plugin
 			return;
 		}
 
-		// Search loaded tiles for objects
-		for (final Tile[] tiles : client.getScene().getTiles()[client.getPlane()])
+		final String[] objectNames = ((NamedObjectClueScroll) clue).getObjectNames();
+		if (objectNames == null)
 		{
-			for (final Tile tile : tiles)
-			{
-				if (tile == null)
-				{
-					continue;
-				}
+			return;
+		}
 
-				for (final GameObject object : tile.getGameObjects())
+		final int plane = client.getPlane();
+		for (final String name : objectNames)
+		{
+			for (final TileObject object : sceneObjectIndex.getObjects(name))
+			{
+				if (object instanceof GameObject && object.getPlane() == plane)
 				{
-					if (object == null)
-					{
-						continue;
-					}
-
 					checkClueNamedObject(clue, object);
 				}
 			}
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.cluescrolls.clues;
 import com.google.common.collect.ImmutableList;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -778,6 +779,8 @@ public class AnagramClue extends ClueScroll implements NpcClueScroll, ObjectClue
 			.build()
 	);
 
+	private static final ClueTextIndex<AnagramClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> Arrays.asList(ANAGRAM_TEXT + clue.text, ANAGRAM_TEXT_BEGINNER + clue.text, clue.question));
+
 	private final String text;
 	private final String npc;
 	@Getter(AccessLevel.PRIVATE)
@@ -858,17 +861,7 @@ public class AnagramClue extends ClueScroll implements NpcClueScroll, ObjectClue
 
 	public static AnagramClue forText(String text)
 	{
-		for (AnagramClue clue : CLUES)
-		{
-			if (text.equalsIgnoreCase(ANAGRAM_TEXT + clue.text)
-				|| text.equalsIgnoreCase(ANAGRAM_TEXT_BEGINNER + clue.text)
-				|| text.equalsIgnoreCase(clue.question))
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return TEXT_INDEX.get(text);
 	}
 
 	@Override
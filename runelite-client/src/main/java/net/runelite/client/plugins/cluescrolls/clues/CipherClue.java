@@ -27,6 +27,7 @@ package net.runelite.client.plugins.cluescrolls.clues;
 import com.google.common.collect.ImmutableList;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -67,6 +68,8 @@ public class CipherClue extends ClueScroll implements NpcClueScroll, LocationClu
 		new CipherClue("BXJA UNJMNA YRCAR", NpcID.SOAR_LEADER_PITRI, new WorldPoint(1559, 3045, 0), "Top of the Hunter Guild")
 	);
 
+	private static final ClueTextIndex<CipherClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> Arrays.asList(clue.text, clue.question));
+
 	private final String text;
 	private final int npcId;
 	@Getter(AccessLevel.PRIVATE)
@@ -160,15 +163,7 @@ public class CipherClue extends ClueScroll implements NpcClueScroll, LocationClu
 
 	public static CipherClue forText(String text)
 	{
-		for (CipherClue clue : CLUES)
-		{
-			if (text.equalsIgnoreCase(clue.text) || text.equalsIgnoreCase(clue.question))
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return TEXT_INDEX.get(text);
 	}
 
 	@Override
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.cluescrolls.clues;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * Lookup of clues by the text shown on the clue scroll, built once from a clue list. Texts are matched exactly or
+ * ignoring case, and failing that, ignoring everything other than letters and digits, which tolerates the punctuation
+ * and spacing differences that creep in between the game and the clue lists. Where several clues have the same text,
+ * the first in the list wins, same as a scan of the list would find.
+ *
+ * @param <T> clue type
+ */
+final class ClueTextIndex<T>
+{
+	private final Map<String, T> texts = new HashMap<>();
+	private final Map<String, T> canonicalTexts = new HashMap<>();
+	private final boolean ignoreCase;
+
+	private ClueTextIndex(boolean ignoreCase)
+	{
+		this.ignoreCase = ignoreCase;
+	}
+
+	/**
+	 * Build an index for a clue list, matching texts ignoring case.
+	 *
+	 * @param clues   clues
+	 * @param keys    function giving the texts a clue can be found by. Null texts are skipped.
+	 * @param <T>     clue type
+	 * @return the index
+	 */
+	static <T> ClueTextIndex<T> of(Collection<T> clues, Function<T, Collection<String>> keys)
+	{
+		return of(clues, keys, true);
+	}
+
+	/**
+	 * Build an index for a clue list.
+	 *
+	 * @param clues      clues
+	 * @param keys       function giving the texts a clue can be found by. Null texts are skipped.
+	 * @param ignoreCase whether {@link #getExact(String)} ignores case
+	 * @param <T>        clue type
+	 * @return the index
+	 */
+	static <T> ClueTextIndex<T> of(Collection<T> clues, Function<T, Collection<String>> keys, boolean ignoreCase)
+	{
+		ClueTextIndex<T> index = new ClueTextIndex<>(ignoreCase);
+		for (T clue : clues)
+		{
+			for (String text : keys.apply(clue))
+			{
+				if (text != null)
+				{
+					index.texts.putIfAbsent(index.key(text), clue);
+					index.canonicalTexts.putIfAbsent(canonicalize(text), clue);
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Find a clue by its text, falling back to {@link #getCanonical(String)} if no text matches exactly
+	 */
+	@Nullable
+	T get(String text)
+	{
+		T clue = getExact(text);
+		return clue != null ? clue : getCanonical(text);
+	}
+
+	/**
+	 * Find a clue by its text, ignoring case if this index was built to
+	 */
+	@Nullable
+	T getExact(String text)
+	{
+		return texts.get(key(text));
+	}
+
+	/**
+	 * Find a clue by its text, ignoring everything other than letters and digits
+	 */
+	@Nullable
+	T getCanonical(String text)
+	{
+		String canonical = canonicalize(text);
+		return canonical.isEmpty() ? null : canonicalTexts.get(canonical);
+	}
+
+	private String key(String text)
+	{
+		return ignoreCase ? text.toLowerCase(Locale.ROOT) : text;
+	}
+
+	/**
+	 * Lowercase the text and replace each run of characters other than letters and digits with a single space
+	 */
+	static String canonicalize(String text)
+	{
+		StringBuilder sb = new StringBuilder(text.length());
+		boolean separator = false;
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			if (Character.isLetterOrDigit(c))
+			{
+				if (separator && sb.length() > 0)
+				{
+					sb.append(' ');
+				}
+				sb.append(Character.toLowerCase(c));
+				separator = false;
+			}
+			else
+			{
+				separator = true;
+			}
+		}
+		return sb.toString();
+	}
+}
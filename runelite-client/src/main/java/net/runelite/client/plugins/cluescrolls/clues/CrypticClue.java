@@ -27,7 +27,9 @@ package net.runelite.client.plugins.cluescrolls.clues;
 import com.google.common.collect.ImmutableList;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -1711,6 +1713,9 @@ public class CrypticClue extends ClueScroll implements NpcClueScroll, ObjectClue
 			.build()
 	);
 
+	private static final ClueTextIndex<CrypticClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> Arrays.asList(clue.text, clue.questionText));
+	private static final ClueTextIndex<CrypticClue> STEP_TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> Collections.singletonList(clue.text));
+
 	private static final WorldPoint VIGGORA_ROGUES_CASTLE = new WorldPoint(3295, 3934, 1);
 	private static final WorldPoint VIGGORA_SLAYER_TOWER = new WorldPoint(3447, 3547, 1);
 	private static final WorldPoint VIGGORA_EDGEVILLE_DUNGEON = new WorldPoint(3121, 9995, 0);
@@ -1844,15 +1849,17 @@ public class CrypticClue extends ClueScroll implements NpcClueScroll, ObjectClue
 
 	public static CrypticClue forText(String text)
 	{
-		for (CrypticClue clue : CLUES)
-		{
-			if (text.equalsIgnoreCase(clue.text) || text.equalsIgnoreCase(clue.questionText))
-			{
-				return clue;
-			}
-		}
+		return TEXT_INDEX.get(text);
+	}
 
-		return null;
+	/**
+	 * Find a clue by its text only, ignoring case. Used for the steps of a three step cryptic clue, which are
+	 * never question texts and are not matched fuzzily.
+	 */
+	@Nullable
+	static CrypticClue forStepText(String text)
+	{
+		return STEP_TEXT_INDEX.getExact(text);
 	}
 
 	@Override
@@ -235,6 +235,8 @@ public class EmoteClue extends ClueScroll implements LocationClueScroll
 		new EmoteClue("Spin at Flynn's Mace Shop.", "Falador", null, new WorldPoint(2950, 3387, 0), SPIN),
 		new EmoteClue("Salute by the Charcoal Burners. Equip a Farmer's strawhat, Shayzien platebody (5) and Pyromancer robes.", "Charcoal Burners", CHARCOAL_BURNERS, new WorldPoint(1714, 3467, 0), SALUTE, any("Farmer's strawhat", item(FARMERS_STRAWHAT), item(FARMERS_STRAWHAT_13647)), item(SHAYZIEN_BODY_5), item(PYROMANCER_ROBE)));
 
+	private static final ClueTextIndex<EmoteClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> List.of(clue.text));
+
 	private static final String UNICODE_CHECK_MARK = "\u2713";
 	private static final String UNICODE_BALLOT_X = "\u2717";
 
@@ -407,14 +409,6 @@ public class EmoteClue extends ClueScroll implements LocationClueScroll
 
 	public static EmoteClue forText(String text)
 	{
-		for (EmoteClue clue : CLUES)
-		{
-			if (clue.getText().equalsIgnoreCase(text))
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return TEXT_INDEX.get(text);
 	}
 }
@@ -54,6 +54,8 @@ public class FairyRingClue extends ClueScroll implements LocationClueScroll
 		new FairyRingClue("D K S 2 3 1 0", new WorldPoint(2747, 3720, 0))
 	);
 
+	private static final ClueTextIndex<FairyRingClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> List.of(clue.text));
+
 	@Getter
 	private final String text;
 	private final WorldPoint location;
@@ -109,14 +111,6 @@ public class FairyRingClue extends ClueScroll implements LocationClueScroll
 
 	public static FairyRingClue forText(String text)
 	{
-		for (FairyRingClue clue : CLUES)
-		{
-			if (clue.text.equalsIgnoreCase(text))
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return TEXT_INDEX.get(text);
 	}
 }
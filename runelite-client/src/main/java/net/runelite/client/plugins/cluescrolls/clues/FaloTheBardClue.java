@@ -72,6 +72,8 @@ public class FaloTheBardClue extends ClueScroll implements NpcClueScroll
 		new FaloTheBardClue("Vampyres are agile opponents, damaged best with a weapon of many components.", any("Rod of Ivandis or Ivandis/Blisterwood flail", range(ROD_OF_IVANDIS_10, ROD_OF_IVANDIS_1), item(IVANDIS_FLAIL), item(BLISTERWOOD_FLAIL)))
 	);
 
+	private static final ClueTextIndex<FaloTheBardClue> TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> List.of(clue.text));
+
 	private static final WorldPoint LOCATION = new WorldPoint(2689, 3550, 0);
 	private static final String FALO_THE_BARD = "Falo the Bard";
 
@@ -170,14 +172,6 @@ public class FaloTheBardClue extends ClueScroll implements NpcClueScroll
 
 	public static FaloTheBardClue forText(String text)
 	{
-		for (FaloTheBardClue clue : CLUES)
-		{
-			if (clue.text.equalsIgnoreCase(text))
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return TEXT_INDEX.get(text);
 	}
 }
@@ -28,6 +28,9 @@ import com.google.common.collect.ImmutableList;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.Getter;
 import static net.runelite.api.ItemID.*;
@@ -95,6 +98,9 @@ public class MapClue extends ClueScroll implements ObjectClueScroll
 		new MapClue(MYSTERIOUS_ORB_23069, new WorldPoint(3108, 3262, 0), "South-west of the wheat field east of Draynor Village.")
 	);
 
+	private static final Map<Integer, MapClue> ITEM_INDEX = CLUES.stream()
+		.collect(Collectors.toMap(MapClue::getItemId, Function.identity(), (a, b) -> a));
+
 	private final int itemId;
 	@Getter(AccessLevel.PRIVATE)
 	private final WorldPoint location;
@@ -203,15 +209,7 @@ public class MapClue extends ClueScroll implements ObjectClueScroll
 
 	public static MapClue forItemId(int itemId)
 	{
-		for (MapClue clue : CLUES)
-		{
-			if (clue.itemId == itemId)
-			{
-				return clue;
-			}
-		}
-
-		return null;
+		return ITEM_INDEX.get(itemId);
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -256,6 +257,9 @@ public class SkillChallengeClue extends ClueScroll implements NpcClueScroll, Nam
 		new SkillChallengeClue("Catch a tecu salamander.", item(ItemID.ROPE), item(ItemID.SMALL_FISHING_NET))
 	);
 
+	private static final ClueTextIndex<SkillChallengeClue> RETURN_TEXT_INDEX = ClueTextIndex.of(CLUES, clue -> List.of(clue.returnText));
+	private static final ClueTextIndex<SkillChallengeClue> CHALLENGE_INDEX = ClueTextIndex.of(CLUES, clue -> List.of(clue.rawChallenge), false);
+
 	private final ChallengeType type;
 	private final String challenge;
 	private final String rawChallenge;
@@ -454,18 +458,26 @@ public class SkillChallengeClue extends ClueScroll implements NpcClueScroll, Nam
 
 	public static SkillChallengeClue forText(String text, String rawText)
 	{
-		for (SkillChallengeClue clue : CLUES)
+		SkillChallengeClue clue = forText(RETURN_TEXT_INDEX.getExact(rawText), CHALLENGE_INDEX.getExact(text));
+		if (clue == null)
 		{
-			if (rawText.equalsIgnoreCase(clue.returnText))
-			{
-				clue.setChallengeCompleted(true);
-				return clue;
-			}
-			else if (text.equals(clue.rawChallenge))
-			{
-				clue.setChallengeCompleted(false);
-				return clue;
-			}
+			clue = forText(RETURN_TEXT_INDEX.getCanonical(rawText), CHALLENGE_INDEX.getCanonical(text));
+		}
+		return clue;
+	}
+
+	private static SkillChallengeClue forText(@Nullable SkillChallengeClue returned, @Nullable SkillChallengeClue challenge)
+	{
+		// the first clue in the list wins, and a clue's return text is checked before its challenge
+		if (returned != null && (challenge == null || CLUES.indexOf(returned) <= CLUES.indexOf(challenge)))
+		{
+			returned.setChallengeCompleted(true);
+			return returned;
+		}
+		else if (challenge != null)
+		{
+			challenge.setChallengeCompleted(false);
+			return challenge;
 		}
 		return null;
 	}
@@ -61,15 +61,10 @@ public class ThreeStepCrypticClue extends ClueScroll implements ObjectClueScroll
 			boolean isDone = part.contains("<str>");
 			final String rawText = Text.sanitizeMultilineText(part);
 
-			for (CrypticClue clue : CrypticClue.CLUES)
+			final CrypticClue clue = CrypticClue.forStepText(rawText);
+			if (clue != null)
 			{
-				if (!rawText.equalsIgnoreCase(clue.getText()))
-				{
-					continue;
-				}
-
 				steps.add(new AbstractMap.SimpleEntry<>(clue, isDone));
-				break;
 			}
 		}
 
@@ -27,7 +27,6 @@ package net.runelite.client.plugins.grandexchange;
 
 import java.util.function.ToDoubleFunction;
 import javax.inject.Singleton;
-import net.runelite.api.ItemComposition;
 import org.apache.commons.text.similarity.JaroWinklerDistance;
 import org.apache.commons.text.similarity.LongestCommonSubsequence;
 import org.apache.commons.text.similarity.SimilarityScore;
@@ -65,14 +64,12 @@ public class FuzzySearchScorer
 		return lcsScore + proximityScore - 1.0;
 	}
 
-	public ToDoubleFunction<ItemComposition> comparator(String query)
+	public ToDoubleFunction<String> scorer(String query)
 	{
 		// We do this so that for example the items "Anti-venom ..." are still at the top
 		// when searching "anti venom"
-		return item -> score(
-			query.toLowerCase().replace('-', ' '),
-			item.getName().toLowerCase().replace('-', ' ')
-		);
+		final String normalizedQuery = query.toLowerCase().replace('-', ' ');
+		return itemName -> score(normalizedQuery, itemName);
 	}
 
 }
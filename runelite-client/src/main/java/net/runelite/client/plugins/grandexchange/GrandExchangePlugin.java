@@ -45,6 +45,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.Enumeration;
@@ -52,7 +53,6 @@ import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -93,6 +93,7 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSearchIndex;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.input.MouseManager;
 import net.runelite.client.plugins.Plugin;
@@ -190,6 +191,9 @@ public class GrandExchangePlugin extends Plugin
 	@Inject
 	private FuzzySearchScorer fuzzySearchScorer;
 
+	@Inject
+	private ItemSearchIndex itemSearchIndex;
+
 	@Inject
 	private GrandExchangeClient grandExchangeClient;
 	private int lastLoginTick;
@@ -703,11 +707,9 @@ public class GrandExchangePlugin extends Plugin
 		int resultCount = 0;
 		if (searchMode == GrandExchangeSearchMode.FUZZY_FALLBACK)
 		{
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
-					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1
-						&& item.getName().toLowerCase().contains(input))
+			List<Integer> ids = Arrays.stream(itemSearchIndex.search(input, true))
 					.limit(MAX_RESULT_COUNT + 1)
+					.mapToObj(itemManager::getItemComposition)
 					.sorted(Comparator.comparing(ItemComposition::getName))
 					.map(ItemComposition::getId)
 					.collect(Collectors.toList());
@@ -726,19 +728,17 @@ public class GrandExchangePlugin extends Plugin
 
 		if (resultCount == 0)
 		{
-			ToDoubleFunction<ItemComposition> comparator = fuzzySearchScorer.comparator(input);
-			List<Integer> ids = IntStream.range(0, client.getItemCount())
-					.mapToObj(itemManager::getItemComposition)
-					.filter(item -> item.isTradeable() && item.getNote() == -1)
-					.filter(item -> comparator.applyAsDouble(item) > 0)
-					.sorted(Comparator.comparingDouble(comparator).reversed()
-						.thenComparing(ItemComposition::getName))
-					.limit(MAX_RESULT_COUNT)
-					.map(ItemComposition::getId)
-					.collect(Collectors.toList());
+			ToDoubleFunction<String> scorer = fuzzySearchScorer.scorer(input);
+			int[] ids = itemSearchIndex.top(scorer, MAX_RESULT_COUNT);
+
+			short[] resultIds = new short[ids.length];
+			for (int i = 0; i < ids.length; ++i)
+			{
+				resultIds[i] = (short) ids[i];
+			}
 
-			client.setGeSearchResultCount(ids.size());
-			client.setGeSearchResultIds(Shorts.toArray(ids));
+			client.setGeSearchResultCount(ids.length);
+			client.setGeSearchResultIds(resultIds);
 
 			wasFuzzySearch = true;
 		}
@@ -34,8 +34,8 @@ import java.awt.Rectangle;
 import java.time.Instant;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Inject;
 import net.runelite.api.Client;
@@ -80,6 +80,7 @@ public class GroundItemsOverlay extends Overlay
 	private final TextComponent textComponent = new TextComponent();
 	private final ProgressPieComponent progressPieComponent = new ProgressPieComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+	private final List<GroundItem> visibleItems = new ArrayList<>();
 
 	@Inject
 	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
@@ -113,14 +114,22 @@ public class GroundItemsOverlay extends Overlay
 		offsetMap.clear();
 		final LocalPoint localLocation = player.getLocalLocation();
 		final Point mousePos = client.getMouseCanvasPosition();
-		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
+		final List<GroundItem> groundItemList = visibleItems;
+		groundItemList.clear();
+		// Items are culled per tile, so items far away from the player are never looked at
+		for (Map.Entry<WorldPoint, Map<Integer, GroundItem>> tile : plugin.getCollectedGroundItems().rowMap().entrySet())
+		{
+			final LocalPoint tilePoint = LocalPoint.fromWorld(client, tile.getKey());
+			if (tilePoint != null && localLocation.distanceTo(tilePoint) <= MAX_DISTANCE)
+			{
+				groundItemList.addAll(tile.getValue().values());
+			}
+		}
+
 		GroundItem topGroundItem = null;
 
 		if (plugin.isHotKeyPressed())
 		{
-			// Make copy of ground items because we are going to modify them here, and the array list supports our
-			// desired behaviour here
-			groundItemList = new ArrayList<>(groundItemList);
 			final java.awt.Point awtMousePos = new java.awt.Point(mousePos.getX(), mousePos.getY());
 			GroundItem groundItem = null;
 
@@ -177,8 +186,7 @@ public class GroundItemsOverlay extends Overlay
 		{
 			final LocalPoint groundPoint = LocalPoint.fromWorld(client, item.getLocation());
 
-			if (groundPoint == null || localLocation.distanceTo(groundPoint) > MAX_DISTANCE
-				|| (onlyShowLoot && !item.isMine()))
+			if (groundPoint == null || (onlyShowLoot && !item.isMine()))
 			{
 				continue;
 			}
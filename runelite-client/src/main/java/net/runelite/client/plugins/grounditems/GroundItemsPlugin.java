@@ -116,6 +116,30 @@ public class GroundItemsPlugin extends Plugin
 		private final Color color;
 	}
 
+	/**
+	 * The fields which identify identical ground item menu entries, used for collapsing them
+	 */
+	@Value
+	private static class MenuEntryKey
+	{
+		private final String option;
+		private final String target;
+		private final int identifier;
+		private final MenuAction type;
+		private final int param0;
+		private final int param1;
+
+		MenuEntryKey(MenuEntry menuEntry)
+		{
+			option = menuEntry.getOption();
+			target = menuEntry.getTarget();
+			identifier = menuEntry.getIdentifier();
+			type = menuEntry.getType();
+			param0 = menuEntry.getParam0();
+			param1 = menuEntry.getParam1();
+		}
+	}
+
 	// ItemID for coins
 	private static final int COINS = ItemID.COINS_995;
 
@@ -341,28 +365,33 @@ public class GroundItemsPlugin extends Plugin
 
 		final MenuEntry[] menuEntries = client.getMenuEntries();
 		final List<MenuEntryWithCount> newEntries = new ArrayList<>(menuEntries.length);
+		final Map<MenuEntryKey, MenuEntryWithCount> groundItemEntries = new HashMap<>();
 
-		outer:
 		for (int i = menuEntries.length - 1; i >= 0; i--)
 		{
 			MenuEntry menuEntry = menuEntries[i];
+			MenuEntryWithCount entryWCount = new MenuEntryWithCount(menuEntry);
 
 			MenuAction menuType = menuEntry.getType();
 			if (menuType == MenuAction.GROUND_ITEM_FIRST_OPTION || menuType == MenuAction.GROUND_ITEM_SECOND_OPTION
 				|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
 				|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND)
 			{
-				for (MenuEntryWithCount entryWCount : newEntries)
+				MenuEntryWithCount existing = groundItemEntries.putIfAbsent(new MenuEntryKey(menuEntry), entryWCount);
+				if (existing != null)
 				{
-					if (entryWCount.getEntry().equals(menuEntry))
-					{
-						entryWCount.increment();
-						continue outer;
-					}
+					existing.increment();
+					continue;
 				}
 			}
 
-			newEntries.add(new MenuEntryWithCount(menuEntry));
+			newEntries.add(entryWCount);
+		}
+
+		if (newEntries.size() == menuEntries.length)
+		{
+			// nothing to collapse
+			return;
 		}
 
 		Collections.reverse(newEntries);
@@ -30,11 +30,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardPattern;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
 	private final List<ItemThreshold> itemThresholds;
+	// the compiled item name patterns of itemThresholds
+	private final WildcardPattern[] patterns;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
@@ -42,6 +44,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+		this.patterns = itemThresholds.stream()
+			.map(entry -> WildcardPattern.compile(entry.getItemName()))
+			.toArray(WildcardPattern[]::new);
 	}
 
 	@Override
@@ -54,10 +59,10 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
-		for (final ItemThreshold entry : itemThresholds)
+		for (int i = 0; i < patterns.length; i++)
 		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
+			if (patterns[i].matches(filteredName)
+				&& itemThresholds.get(i).quantityHolds(key.getQuantity()))
 			{
 				return true;
 			}
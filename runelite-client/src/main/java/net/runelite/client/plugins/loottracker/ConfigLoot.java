@@ -70,4 +70,14 @@ class ConfigLoot
 	{
 		return drops.length / 2;
 	}
+
+	ConfigLoot copy()
+	{
+		ConfigLoot copy = new ConfigLoot(type, name);
+		copy.kills = kills;
+		copy.first = first;
+		copy.last = last;
+		copy.drops = drops == null ? null : drops.clone();
+		return copy;
+	}
 }
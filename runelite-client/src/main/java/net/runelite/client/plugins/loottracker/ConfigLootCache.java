@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.gson.Gson;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import lombok.AllArgsConstructor;
+
+/**
+ * The parsed loot records of the current profile, keyed by their config key. A record is only
+ * parsed again when its json in the config differs from the json it was parsed from, such as
+ * after a config sync from another client, so saving loot and reloading the panel do not parse
+ * every record each time. The source json is kept so an unchanged value is detected with a
+ * string compare, without serializing the record.
+ * <p>
+ * Records are copied in and out of the cache, so callers may modify them.
+ */
+class ConfigLootCache
+{
+	@AllArgsConstructor
+	private static class Entry
+	{
+		private final String json;
+		private final ConfigLoot loot;
+	}
+
+	private final Gson gson;
+	private final Map<String, Entry> entries = new HashMap<>();
+	private String profile;
+
+	@Inject
+	ConfigLootCache(Gson gson)
+	{
+		this.gson = gson;
+	}
+
+	/**
+	 * Get the loot record for a config key, parsing the json if it is not cached.
+	 *
+	 * @throws com.google.gson.JsonSyntaxException if the json is malformed
+	 */
+	@Nullable
+	synchronized ConfigLoot get(String profile, String key, String json)
+	{
+		setProfile(profile);
+
+		Entry entry = entries.get(key);
+		if (entry == null || !entry.json.equals(json))
+		{
+			ConfigLoot loot = gson.fromJson(json, ConfigLoot.class);
+			if (loot == null)
+			{
+				entries.remove(key);
+				return null;
+			}
+
+			entry = new Entry(json, loot);
+			entries.put(key, entry);
+		}
+		return entry.loot.copy();
+	}
+
+	synchronized void put(String profile, String key, String json, ConfigLoot loot)
+	{
+		setProfile(profile);
+		entries.put(key, new Entry(json, loot.copy()));
+	}
+
+	synchronized void remove(String profile, String key)
+	{
+		if (Objects.equals(this.profile, profile))
+		{
+			entries.remove(key);
+		}
+	}
+
+	synchronized void clear()
+	{
+		entries.clear();
+	}
+
+	private void setProfile(String profile)
+	{
+		if (!profile.equals(this.profile))
+		{
+			// only the records of one profile are kept
+			entries.clear();
+			this.profile = profile;
+		}
+	}
+}
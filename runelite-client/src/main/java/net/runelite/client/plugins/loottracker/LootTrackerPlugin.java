@@ -354,6 +354,9 @@ public class LootTrackerPlugin extends Plugin
 	@Inject
 	private Gson gson;
 
+	@Inject
+	private ConfigLootCache lootCache;
+
 	@Getter(AccessLevel.PACKAGE)
 	@Inject
 	private LootTrackerClient lootTrackerClient;
@@ -488,7 +491,7 @@ public class LootTrackerPlugin extends Plugin
 
 				try
 				{
-					configLoot = gson.fromJson(json, ConfigLoot.class);
+					configLoot = lootCache.get(profileKey, key, json);
 				}
 				catch (JsonSyntaxException ex)
 				{
@@ -497,10 +500,16 @@ public class LootTrackerPlugin extends Plugin
 					continue;
 				}
 
+				if (configLoot == null)
+				{
+					continue;
+				}
+
 				if (configLoot.last.isBefore(old))
 				{
 					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
 					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+					lootCache.remove(profileKey, key);
 					continue;
 				}
 
@@ -606,6 +615,7 @@ public class LootTrackerPlugin extends Plugin
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient.setUuid(null);
 		chestLooted = false;
+		lootCache.clear();
 	}
 
 	@Subscribe
@@ -1597,13 +1607,14 @@ public class LootTrackerPlugin extends Plugin
 			return null;
 		}
 
-		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		String key = "drops_" + type + "_" + name;
+		String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, key);
 		if (json == null)
 		{
 			return null;
 		}
 
-		return gson.fromJson(json, ConfigLoot.class);
+		return lootCache.get(profile, key, json);
 	}
 
 	void setLootConfig(LootRecordType type, String name, ConfigLoot loot)
@@ -1615,8 +1626,10 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
+		String key = "drops_" + type + "_" + name;
 		String json = gson.toJson(loot);
-		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name, json);
+		configManager.setConfiguration(LootTrackerConfig.GROUP, profile, key, json);
+		lootCache.put(profile, key, json, loot);
 	}
 
 	void removeLootConfig(LootRecordType type, String name)
@@ -1628,7 +1641,9 @@ public class LootTrackerPlugin extends Plugin
 			return;
 		}
 
-		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		String key = "drops_" + type + "_" + name;
+		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
+		lootCache.remove(profile, key);
 	}
 
 	void removeAllLoot()
@@ -1644,5 +1659,6 @@ public class LootTrackerPlugin extends Plugin
 		{
 			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
 		}
+		lootCache.clear();
 	}
 }
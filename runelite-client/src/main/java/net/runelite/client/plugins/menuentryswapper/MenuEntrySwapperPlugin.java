@@ -77,6 +77,8 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.NpcUtil;
@@ -87,6 +89,7 @@ import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperConfi
 import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperConfig.KaramjaGlovesMode;
 import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperConfig.MorytaniaLegsMode;
 import static net.runelite.client.plugins.menuentryswapper.MenuEntrySwapperConfig.RadasBlessingMode;
+import net.runelite.client.util.NormalizedTextCache;
 import net.runelite.client.util.Text;
 
 @PluginDescriptor(
@@ -99,13 +102,13 @@ import net.runelite.client.util.Text;
 public class MenuEntrySwapperPlugin extends Plugin
 {
 	private static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
-	private static final String ITEM_KEY_PREFIX = "item_";
-	private static final String OBJECT_KEY_PREFIX = "object_";
-	private static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
-	private static final String NPC_KEY_PREFIX = "npc_";
-	private static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
-	private static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
-	private static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
+	static final String ITEM_KEY_PREFIX = "item_";
+	static final String OBJECT_KEY_PREFIX = "object_";
+	static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
+	static final String NPC_KEY_PREFIX = "npc_";
+	static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
+	static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
+	static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
 	private static final String UI_KEY_PREFIX = "ui_";
 	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
 
@@ -163,8 +166,11 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
 	private final ArrayListMultimap<String, Integer> optionIndexes = ArrayListMultimap.create();
+	// menu options and targets without tags and lowercased, which are the same from frame to frame
+	private final NormalizedTextCache menuText = new NormalizedTextCache(512);
 	private final Multimap<Integer, TeleportSwap> teleportSwaps = HashMultimap.create();
 	private boolean lastShift, curShift;
+	private volatile SwapConfigs swapConfigs;
 
 	@Provides
 	MenuEntrySwapperConfig provideConfig(ConfigManager configManager)
@@ -183,8 +189,51 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Override
 	public void shutDown()
 	{
+		menuText.clear();
 		swaps.clear();
 		teleportSwaps.clear();
+		invalidateSwapConfigs();
+	}
+
+	@VisibleForTesting
+	SwapConfigs swapConfigs()
+	{
+		// rebuilt lazily since a profile switch posts a ConfigChanged per key
+		SwapConfigs swapConfigs = this.swapConfigs;
+		if (swapConfigs == null)
+		{
+			synchronized (this)
+			{
+				swapConfigs = this.swapConfigs;
+				if (swapConfigs == null)
+				{
+					swapConfigs = this.swapConfigs = SwapConfigs.load(configManager, MenuEntrySwapperConfig.GROUP, SHIFTCLICK_CONFIG_GROUP);
+				}
+			}
+		}
+		return swapConfigs;
+	}
+
+	// config changes are posted off of the client thread, so this waits for a rebuild in progress, which may
+	// have read the old values, to finish before discarding it
+	private synchronized void invalidateSwapConfigs()
+	{
+		swapConfigs = null;
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged configChanged)
+	{
+		if (configChanged.getGroup().equals(MenuEntrySwapperConfig.GROUP) || configChanged.getGroup().equals(SHIFTCLICK_CONFIG_GROUP))
+		{
+			invalidateSwapConfigs();
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged profileChanged)
+	{
+		invalidateSwapConfigs();
 	}
 
 	@VisibleForTesting
@@ -424,13 +473,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return swapConfig(swapConfigs().getItem(shift, itemId));
 	}
 
 	private void setItemSwapConfig(boolean shift, int itemId, int index)
@@ -448,14 +491,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return swapConfig(swapConfigs().getWornItem(shift, itemId));
 	}
 
 	private void setWornItemSwapConfig(boolean shift, int itemId, int index)
@@ -1429,8 +1465,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
+		final String option = menuText.removeTagsToLowerCase(menuEntry.getOption());
+		final String target = menuText.removeTagsToLowerCase(menuEntry.getTarget());
 
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
@@ -1676,7 +1712,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		optionIndexes.clear();
 		for (MenuEntry entry : menuEntries)
 		{
-			String option = Text.removeTags(entry.getOption()).toLowerCase();
+			String option = menuText.removeTagsToLowerCase(entry.getOption());
 			optionIndexes.put(option, idx++);
 		}
 
@@ -1735,7 +1771,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				int idx = indexes.get(i);
 				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = menuText.removeTagsToLowerCase(entry.getTarget());
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1750,8 +1786,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = menuText.removeTagsToLowerCase(entry.getOption());
+				String entryTarget = menuText.removeTagsToLowerCase(entry.getTarget());
 
 				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
 				{
@@ -1791,8 +1827,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		client.setMenuEntries(entries);
 
 		// Update optionIndexes
-		String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-			option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+		String option1 = menuText.removeTagsToLowerCase(entry1.getOption()),
+			option2 = menuText.removeTagsToLowerCase(entry2.getOption());
 
 		List<Integer> list1 = optionIndexes.get(option1),
 			list2 = optionIndexes.get(option2);
@@ -1818,13 +1854,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getObjectSwapConfig(boolean shift, int objectId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
+		return swapConfig(swapConfigs().getObject(shift, objectId));
+	}
 
-		return Integer.parseInt(config);
+	private static Integer swapConfig(int value)
+	{
+		return value == SwapConfigs.UNSET ? null : value;
 	}
 
 	private void setObjectSwapConfig(boolean shift, int objectId, int index)
@@ -1854,14 +1889,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getNpcSwapConfig(boolean shift, int npcId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return swapConfig(swapConfigs().getNpc(shift, npcId));
 	}
 
 	private void setNpcSwapConfig(boolean shift, int npcId, int index)
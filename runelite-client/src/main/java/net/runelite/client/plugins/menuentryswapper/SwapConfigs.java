@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Parsed copy of the custom object, npc, item and worn item swaps. The swap configs are looked up for every
+ * menu entry each client tick, so they are kept here in int keyed tables instead of being read back out of
+ * the config manager by string key, and rebuilt when the config changes.
+ */
+@Slf4j
+class SwapConfigs
+{
+	static final int UNSET = Integer.MIN_VALUE;
+
+	private final Table objects = new Table();
+	private final Table objectsShift = new Table();
+	private final Table npcs = new Table();
+	private final Table npcsShift = new Table();
+	private final Table items = new Table();
+	private final Table itemsShift = new Table();
+	private final Table wornItems = new Table();
+	private final Table wornItemsShift = new Table();
+
+	static SwapConfigs load(ConfigManager configManager, String group, String shiftClickGroup)
+	{
+		SwapConfigs swapConfigs = new SwapConfigs();
+		String groupPrefix = group + ".";
+		for (String wholeKey : configManager.getConfigurationKeys(groupPrefix))
+		{
+			String key = wholeKey.substring(groupPrefix.length());
+			// the shift prefixes are checked first since they share a prefix with the non-shift keys
+			Table table;
+			String prefix;
+			if (key.startsWith(MenuEntrySwapperPlugin.OBJECT_SHIFT_KEY_PREFIX))
+			{
+				table = swapConfigs.objectsShift;
+				prefix = MenuEntrySwapperPlugin.OBJECT_SHIFT_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.OBJECT_KEY_PREFIX))
+			{
+				table = swapConfigs.objects;
+				prefix = MenuEntrySwapperPlugin.OBJECT_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.NPC_SHIFT_KEY_PREFIX))
+			{
+				table = swapConfigs.npcsShift;
+				prefix = MenuEntrySwapperPlugin.NPC_SHIFT_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.NPC_KEY_PREFIX))
+			{
+				table = swapConfigs.npcs;
+				prefix = MenuEntrySwapperPlugin.NPC_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.WORN_ITEM_SHIFT_KEY_PREFIX))
+			{
+				table = swapConfigs.wornItemsShift;
+				prefix = MenuEntrySwapperPlugin.WORN_ITEM_SHIFT_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.WORN_ITEM_KEY_PREFIX))
+			{
+				table = swapConfigs.wornItems;
+				prefix = MenuEntrySwapperPlugin.WORN_ITEM_KEY_PREFIX;
+			}
+			else if (key.startsWith(MenuEntrySwapperPlugin.ITEM_KEY_PREFIX))
+			{
+				table = swapConfigs.items;
+				prefix = MenuEntrySwapperPlugin.ITEM_KEY_PREFIX;
+			}
+			else
+			{
+				continue;
+			}
+
+			add(configManager, group, key, prefix, table);
+		}
+
+		String shiftClickPrefix = shiftClickGroup + "." + MenuEntrySwapperPlugin.ITEM_KEY_PREFIX;
+		for (String wholeKey : configManager.getConfigurationKeys(shiftClickPrefix))
+		{
+			String key = wholeKey.substring(shiftClickGroup.length() + 1);
+			add(configManager, shiftClickGroup, key, MenuEntrySwapperPlugin.ITEM_KEY_PREFIX, swapConfigs.itemsShift);
+		}
+
+		return swapConfigs;
+	}
+
+	private static void add(ConfigManager configManager, String group, String key, String prefix, Table table)
+	{
+		String value = configManager.getConfiguration(group, key);
+		if (value == null || value.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			table.put(Integer.parseInt(key.substring(prefix.length())), Integer.parseInt(value));
+		}
+		catch (NumberFormatException ex)
+		{
+			log.debug("ignoring malformed swap config {}.{}: {}", group, key, value);
+		}
+	}
+
+	int getObject(boolean shift, int objectId)
+	{
+		return (shift ? objectsShift : objects).get(objectId);
+	}
+
+	int getNpc(boolean shift, int npcId)
+	{
+		return (shift ? npcsShift : npcs).get(npcId);
+	}
+
+	int getItem(boolean shift, int itemId)
+	{
+		return (shift ? itemsShift : items).get(itemId);
+	}
+
+	int getWornItem(boolean shift, int itemId)
+	{
+		return (shift ? wornItemsShift : wornItems).get(itemId);
+	}
+
+	/**
+	 * Open addressed int to int map. Ids are never negative, so -1 marks an empty slot.
+	 */
+	private static class Table
+	{
+		private static final int EMPTY_KEY = -1;
+
+		private int[] keys = emptyKeys(8);
+		private int[] values = new int[8];
+		private int size;
+
+		private static int[] emptyKeys(int capacity)
+		{
+			int[] keys = new int[capacity];
+			Arrays.fill(keys, EMPTY_KEY);
+			return keys;
+		}
+
+		private static int slot(int key, int mask)
+		{
+			return (key * 0x9E3779B9) >>> 7 & mask;
+		}
+
+		int get(int key)
+		{
+			if (key < 0)
+			{
+				return UNSET;
+			}
+
+			int mask = keys.length - 1;
+			for (int i = slot(key, mask); ; i = (i + 1) & mask)
+			{
+				int k = keys[i];
+				if (k == key)
+				{
+					return values[i];
+				}
+				if (k == EMPTY_KEY)
+				{
+					return UNSET;
+				}
+			}
+		}
+
+		void put(int key, int value)
+		{
+			if (key < 0)
+			{
+				return;
+			}
+
+			if ((size + 1) * 2 > keys.length)
+			{
+				grow();
+			}
+
+			int mask = keys.length - 1;
+			for (int i = slot(key, mask); ; i = (i + 1) & mask)
+			{
+				if (keys[i] == EMPTY_KEY)
+				{
+					keys[i] = key;
+					values[i] = value;
+					++size;
+					return;
+				}
+				if (keys[i] == key)
+				{
+					values[i] = value;
+					return;
+				}
+			}
+		}
+
+		private void grow()
+		{
+			int[] oldKeys = keys;
+			int[] oldValues = values;
+			keys = emptyKeys(oldKeys.length * 2);
+			values = new int[oldKeys.length * 2];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; ++i)
+			{
+				if (oldKeys[i] != EMPTY_KEY)
+				{
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+	}
+}
@@ -76,7 +76,7 @@ import net.runelite.client.ui.components.colorpicker.RuneliteColorPicker;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardPatternSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -158,6 +158,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Highlight strings compiled for matching npc names
+	 */
+	private WildcardPatternSet highlightPatterns = WildcardPatternSet.EMPTY;
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -277,9 +282,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			final String npcName = npc.getName();
 			final boolean nameMatch = highlights.stream().anyMatch(npcName::equalsIgnoreCase);
 			final boolean idMatch = npcTags.contains(npc.getIndex());
-			final boolean wildcardMatch = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			final boolean wildcardMatch = highlightPatterns.matchesWildcard(npcName);
 			int idx = -1;
 
 			client.createMenuEntry(idx--)
@@ -634,6 +637,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightPatterns = WildcardPatternSet.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -678,15 +682,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightPatterns.matches(npcName);
 	}
 
 	private void validateSpawnedNpcs()
@@ -41,6 +41,8 @@ import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessagePattern;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -61,7 +63,8 @@ public class PestControlPlugin extends Plugin
 		NpcID.SPINNER_1713
 	);
 
-	private final Pattern SHIELD_DROP = Pattern.compile("The ([a-z]+), [^ ]+ portal shield has dropped!", Pattern.CASE_INSENSITIVE);
+	private static final String SHIELD_DROP_KEYWORD = "portal shield has dropped!";
+	private static final Pattern SHIELD_DROP = Pattern.compile("^The ([a-z]+), [^ ]+ portal shield has dropped!", Pattern.CASE_INSENSITIVE);
 
 	@Getter(AccessLevel.PACKAGE)
 	private final List<NPC> spinners = new ArrayList<>();
@@ -72,16 +75,24 @@ public class PestControlPlugin extends Plugin
 	@Inject
 	private PestControlOverlay overlay;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
+	private ChatMessagePattern shieldDropPattern;
+
 	@Override
 	protected void startUp() throws Exception
 	{
 		overlayManager.add(overlay);
+		shieldDropPattern = chatMessageClassifier.registerKeyword(SHIELD_DROP_KEYWORD, SHIELD_DROP, this::onShieldDrop, ChatMessageType.GAMEMESSAGE);
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(overlay);
+		chatMessageClassifier.unregister(shieldDropPattern);
+		shieldDropPattern = null;
 		spinners.clear();
 	}
 
@@ -95,16 +106,11 @@ public class PestControlPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage chatMessage)
+	private void onShieldDrop(ChatMessage chatMessage, Matcher matcher)
 	{
-		if (overlay.getGame() != null && chatMessage.getType() == ChatMessageType.GAMEMESSAGE)
+		if (overlay.getGame() != null)
 		{
-			Matcher matcher = SHIELD_DROP.matcher(chatMessage.getMessage());
-			if (matcher.lookingAt())
-			{
-				overlay.getGame().fall(matcher.group(1));
-			}
+			overlay.getGame().fall(matcher.group(1));
 		}
 	}
 
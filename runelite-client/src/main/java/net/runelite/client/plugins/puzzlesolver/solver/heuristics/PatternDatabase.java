@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An additive disjoint pattern database heuristic for the bottom right region of the board, which is the part of
+ * the puzzle left once the top rows and left columns have been solved.
+ * <p>
+ * The tiles of the region are split into disjoint groups, and for each group a table holds the number of moves of
+ * the group's own tiles needed to bring them home from every placement. Since each table only counts moves of its
+ * own tiles, the sum over the groups never overestimates the remaining moves, and it is much tighter than the
+ * manhattan distance because it accounts for tiles of a group getting in each other's way.
+ * <p>
+ * Tiles and cells are numbered locally to the region, in row major order, with the blank being the last tile.
+ *
+ * https://en.wikipedia.org/wiki/Pattern_database
+ */
+public class PatternDatabase implements Heuristic
+{
+	private static final byte UNVISITED = -1;
+
+	@Getter
+	private final int regionX;
+	@Getter
+	private final int regionY;
+	@Getter
+	private final int width;
+	@Getter
+	private final int height;
+
+	private final int cells;
+	private final int[] groupOf;
+	/**
+	 * cells^n, where n is the index of the tile within its group
+	 */
+	private final int[] weightOf;
+	private final byte[][] tables;
+
+	/**
+	 * Build the pattern database for the region starting at the given cell and extending to the bottom right of the
+	 * board. The tables are built eagerly, which takes a number of moves proportional to cells^(largest group + 1).
+	 *
+	 * @param regionX left column of the region
+	 * @param regionY top row of the region
+	 * @param groups  disjoint groups of local tile numbers, covering all of the region's tiles but the blank
+	 */
+	public PatternDatabase(int regionX, int regionY, int[][] groups)
+	{
+		this.regionX = regionX;
+		this.regionY = regionY;
+		this.width = DIMENSION - regionX;
+		this.height = DIMENSION - regionY;
+		this.cells = width * height;
+
+		if (cells > 16)
+		{
+			throw new IllegalArgumentException("Region is too large");
+		}
+
+		groupOf = new int[cells];
+		weightOf = new int[cells];
+		Arrays.fill(groupOf, -1);
+
+		int covered = 0;
+		for (int g = 0; g < groups.length; g++)
+		{
+			int weight = 1;
+			for (int tile : groups[g])
+			{
+				if (tile < 0 || tile >= cells - 1 || groupOf[tile] != -1)
+				{
+					throw new IllegalArgumentException("Groups must be disjoint tiles of the region");
+				}
+
+				groupOf[tile] = g;
+				weightOf[tile] = weight;
+				weight *= cells;
+				covered++;
+			}
+		}
+
+		if (covered != cells - 1)
+		{
+			throw new IllegalArgumentException("Groups must cover every tile of the region");
+		}
+
+		tables = new byte[groups.length][];
+		for (int g = 0; g < groups.length; g++)
+		{
+			tables[g] = buildTable(groups[g]);
+		}
+	}
+
+	/**
+	 * @return the number of cells in the region
+	 */
+	public int getCells()
+	{
+		return cells;
+	}
+
+	public int getGroupCount()
+	{
+		return tables.length;
+	}
+
+	public int getGroup(int tile)
+	{
+		return groupOf[tile];
+	}
+
+	/**
+	 * @return the amount the index of the tile's group changes by when the tile moves one cell forward
+	 */
+	public int getWeight(int tile)
+	{
+		return weightOf[tile];
+	}
+
+	/**
+	 * Compute the index of a group's entry for the given tile positions.
+	 *
+	 * @param group     group number
+	 * @param positions local cell of each local tile
+	 * @return table index
+	 */
+	public int index(int group, int[] positions)
+	{
+		int idx = 0;
+		for (int tile = 0; tile < cells - 1; tile++)
+		{
+			if (groupOf[tile] == group)
+			{
+				idx += positions[tile] * weightOf[tile];
+			}
+		}
+		return idx;
+	}
+
+	public int lookup(int group, int index)
+	{
+		return tables[group][index];
+	}
+
+	/**
+	 * Map the pieces of the region of a board state to their local positions.
+	 *
+	 * @param state puzzle state
+	 * @return the local cell of each local tile, or null if the region does not hold exactly its own pieces
+	 */
+	public int[] positions(PuzzleState state)
+	{
+		int[] positions = new int[cells];
+		boolean[] seen = new boolean[cells];
+
+		for (int y = regionY; y < DIMENSION; y++)
+		{
+			for (int x = regionX; x < DIMENSION; x++)
+			{
+				int tile = localTile(state.getPiece(x, y));
+				if (tile == -1 || seen[tile])
+				{
+					return null;
+				}
+
+				seen[tile] = true;
+				positions[tile] = (y - regionY) * width + (x - regionX);
+			}
+		}
+
+		return positions;
+	}
+
+	/**
+	 * Convert a piece value to its local tile number.
+	 *
+	 * @param piece piece value
+	 * @return the local tile number, or -1 if the piece does not belong to the region
+	 */
+	public int localTile(int piece)
+	{
+		if (piece == BLANK_TILE_VALUE)
+		{
+			return cells - 1;
+		}
+
+		int x = piece % DIMENSION - regionX;
+		int y = piece / DIMENSION - regionY;
+		if (x < 0 || y < 0 || piece >= DIMENSION * DIMENSION - 1)
+		{
+			return -1;
+		}
+
+		return y * width + x;
+	}
+
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		int[] positions = positions(state);
+		if (positions == null)
+		{
+			throw new IllegalArgumentException("State is not reduced to the region");
+		}
+
+		int value = 0;
+		for (int g = 0; g < tables.length; g++)
+		{
+			value += tables[g][index(g, positions)];
+		}
+		return value;
+	}
+
+	/**
+	 * Breadth first search outward from the goal over the placements of a group's tiles and the blank, where only
+	 * moves of the group's tiles are counted. Moving the blank through cells of other tiles is free, so the search
+	 * goes a level at a time, with free moves extending the current level and counted moves feeding the next one.
+	 */
+	private byte[] buildTable(int[] group)
+	{
+		final int k = group.length;
+		final int blankWeight = pow(cells, k);
+		final int[] weights = new int[k];
+		for (int i = 0; i < k; i++)
+		{
+			weights[i] = pow(cells, i);
+		}
+
+		final byte[] dist = new byte[blankWeight * cells];
+		Arrays.fill(dist, UNVISITED);
+
+		int start = (cells - 1) * blankWeight;
+		for (int i = 0; i < k; i++)
+		{
+			start += group[i] * weights[i];
+		}
+		dist[start] = 0;
+
+		int[] level = {start};
+		int levelSize = 1;
+		int[] next = new int[64];
+		final int[] positions = new int[k];
+
+		for (int d = 0; levelSize > 0; d++)
+		{
+			int nextSize = 0;
+
+			// levelSize grows as free moves are found
+			for (int n = 0; n < levelSize; n++)
+			{
+				final int state = level[n];
+				if (dist[state] != d)
+				{
+					continue;
+				}
+
+				final int blank = state / blankWeight;
+				int rest = state % blankWeight;
+				for (int i = 0; i < k; i++)
+				{
+					positions[i] = rest % cells;
+					rest /= cells;
+				}
+
+				final int bx = blank % width;
+				final int by = blank / width;
+				for (int dir = 0; dir < 4; dir++)
+				{
+					final int cell;
+					switch (dir)
+					{
+						case 0:
+							cell = bx > 0 ? blank - 1 : -1;
+							break;
+						case 1:
+							cell = bx < width - 1 ? blank + 1 : -1;
+							break;
+						case 2:
+							cell = by > 0 ? blank - width : -1;
+							break;
+						default:
+							cell = by < height - 1 ? blank + width : -1;
+							break;
+					}
+
+					if (cell == -1)
+					{
+						continue;
+					}
+
+					// the tile in the cell, if it is one of the group's, moves into the blank's cell
+					int moved = -1;
+					for (int i = 0; i < k; i++)
+					{
+						if (positions[i] == cell)
+						{
+							moved = i;
+							break;
+						}
+					}
+
+					int successor = state + (cell - blank) * blankWeight;
+					if (moved == -1)
+					{
+						if (dist[successor] == UNVISITED || dist[successor] > d)
+						{
+							dist[successor] = (byte) d;
+							if (levelSize == level.length)
+							{
+								level = Arrays.copyOf(level, levelSize * 2);
+							}
+							level[levelSize++] = successor;
+						}
+					}
+					else
+					{
+						successor += (blank - cell) * weights[moved];
+						if (dist[successor] == UNVISITED)
+						{
+							dist[successor] = (byte) (d + 1);
+							if (nextSize == next.length)
+							{
+								next = Arrays.copyOf(next, nextSize * 2);
+							}
+							next[nextSize++] = successor;
+						}
+					}
+				}
+			}
+
+			final int[] tmp = level;
+			level = next;
+			levelSize = nextSize;
+			next = tmp;
+		}
+
+		// the heuristic does not know where the blank is, so take the best case over every blank cell
+		final byte[] table = new byte[blankWeight];
+		Arrays.fill(table, Byte.MAX_VALUE);
+		for (int state = 0; state < dist.length; state++)
+		{
+			final int d = dist[state];
+			final int idx = state % blankWeight;
+			if (d != UNVISITED && d < table[idx])
+			{
+				table[idx] = (byte) d;
+			}
+		}
+		return table;
+	}
+
+	private static int pow(int base, int exp)
+	{
+		int result = 1;
+		for (int i = 0; i < exp; i++)
+		{
+			result *= base;
+		}
+		return result;
+	}
+}
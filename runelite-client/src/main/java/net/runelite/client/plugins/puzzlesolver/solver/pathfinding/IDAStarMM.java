@@ -24,6 +24,8 @@
  */
 package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,9 +36,20 @@ import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSwapPattern;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSwapPattern.*;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.Heuristic;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 
 public class IDAStarMM extends IDAStar
 {
+	/**
+	 * Pattern database for the 3x4 puzzle left after the reduction, split into the left and right 2x2 blocks and the
+	 * rest. Built on first use, which is on the solver's thread.
+	 */
+	private static final Supplier<PatternDatabase> REDUCED_DATABASE = Suppliers.memoize(() -> new PatternDatabase(1, 2, new int[][]{
+		{0, 1, 4, 5},
+		{2, 3, 6, 7},
+		{8, 9, 10},
+	}));
+
 	private PuzzleState currentState;
 	private final List<PuzzleState> stateList = new ArrayList<>();
 	private final List<List<Integer>> validRowNumbers = new ArrayList<>();
@@ -72,8 +85,9 @@ public class IDAStarMM extends IDAStar
 		//Remove last state
 		stateList.remove(stateList.size() - 1);
 
-		//Pathfinder for 4x4
-		path.addAll(super.computePath(currentState));
+		//Pathfinder for 3x4
+		List<PuzzleState> reducedPath = new PatternDatabaseIDAStar(REDUCED_DATABASE.get()).computePath(currentState);
+		path.addAll(reducedPath != null ? reducedPath : super.computePath(currentState));
 
 		path.addAll(0, stateList);
 
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+
+/**
+ * An implementation of the IDA* algorithm for the region of the board covered by a {@link PatternDatabase}, for
+ * when the rest of the board is already solved.
+ * <p>
+ * Unlike {@link IDAStar}, the search does not create a state per node. The region is packed into a single long
+ * holding a nibble per cell, moves are made and undone in place, and the heuristic is updated incrementally from the
+ * group of the moved tile. States are only created for the final path.
+ */
+public class PatternDatabaseIDAStar extends Pathfinder
+{
+	private final PatternDatabase database;
+	private final int width;
+	private final int cells;
+
+	// search state, only valid during computePath
+	private long board;
+	private int blank;
+	private int[] positions;
+	private int[] indexes;
+	private int[] path;
+	private int nextBound;
+
+	public PatternDatabaseIDAStar(PatternDatabase database)
+	{
+		super(database);
+		this.database = database;
+		this.width = database.getWidth();
+		this.cells = database.getCells();
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		positions = database.positions(root);
+		if (positions == null || !isSolvedOutsideRegion(root))
+		{
+			return null;
+		}
+
+		board = 0;
+		for (int tile = 0; tile < cells; tile++)
+		{
+			board |= (long) tile << (positions[tile] * 4);
+		}
+		blank = positions[cells - 1];
+
+		int h = 0;
+		indexes = new int[database.getGroupCount()];
+		for (int g = 0; g < indexes.length; g++)
+		{
+			indexes[g] = database.index(g, positions);
+			h += database.lookup(g, indexes[g]);
+		}
+
+		final int rootBlank = blank;
+		path = new int[64];
+		int bound = h;
+		int length;
+		while (true)
+		{
+			nextBound = Integer.MAX_VALUE;
+			length = search(0, h, bound, -1);
+			if (length != -1)
+			{
+				break;
+			}
+
+			if (nextBound == Integer.MAX_VALUE)
+			{
+				// no moves left to try, the region is unsolvable
+				return null;
+			}
+			bound = nextBound;
+		}
+
+		List<PuzzleState> states = new ArrayList<>(length + 1);
+		PuzzleState state = root;
+		states.add(state);
+
+		int regionX = database.getRegionX();
+		int regionY = database.getRegionY();
+		int from = rootBlank;
+		for (int i = 0; i < length; i++)
+		{
+			int to = path[i];
+			state = state.swap(regionX + from % width, regionY + from / width, regionX + to % width, regionY + to / width);
+			states.add(state);
+			from = to;
+		}
+
+		return states;
+	}
+
+	/**
+	 * @return the length of the solution if it was found, otherwise -1 with nextBound set to the smallest f which
+	 * exceeded the bound
+	 */
+	private int search(int g, int h, int bound, int previousBlank)
+	{
+		if (h == 0)
+		{
+			return g;
+		}
+
+		final int from = blank;
+		final int x = from % width;
+
+		for (int dir = 0; dir < 4; dir++)
+		{
+			final int to;
+			switch (dir)
+			{
+				case 0:
+					to = x > 0 ? from - 1 : -1;
+					break;
+				case 1:
+					to = x < width - 1 ? from + 1 : -1;
+					break;
+				case 2:
+					to = from - width;
+					break;
+				default:
+					to = from + width < cells ? from + width : -1;
+					break;
+			}
+
+			// don't undo the previous move
+			if (to < 0 || to == previousBlank)
+			{
+				continue;
+			}
+
+			final int tile = (int) (board >>> (to * 4)) & 0xF;
+			final int group = database.getGroup(tile);
+			final int oldIndex = indexes[group];
+			final int newIndex = oldIndex + (from - to) * database.getWeight(tile);
+			final int newH = h - database.lookup(group, oldIndex) + database.lookup(group, newIndex);
+
+			final int f = g + 1 + newH;
+			if (f > bound)
+			{
+				if (f < nextBound)
+				{
+					nextBound = f;
+				}
+				continue;
+			}
+
+			move(tile, to, from);
+			indexes[group] = newIndex;
+
+			if (g == path.length)
+			{
+				path = Arrays.copyOf(path, path.length * 2);
+			}
+			path[g] = to;
+
+			final int result = search(g + 1, newH, bound, from);
+
+			// undo
+			move(tile, from, to);
+			indexes[group] = oldIndex;
+
+			if (result != -1)
+			{
+				return result;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Slide a tile into the blank cell
+	 */
+	private void move(int tile, int tileCell, int blankCell)
+	{
+		final long blankTile = cells - 1;
+		board &= ~(0xFL << (tileCell * 4)) & ~(0xFL << (blankCell * 4));
+		board |= (blankTile << (tileCell * 4)) | ((long) tile << (blankCell * 4));
+		positions[tile] = blankCell;
+		positions[cells - 1] = tileCell;
+		blank = tileCell;
+	}
+
+	private boolean isSolvedOutsideRegion(PuzzleState state)
+	{
+		for (int y = 0; y < DIMENSION; y++)
+		{
+			for (int x = 0; x < DIMENSION; x++)
+			{
+				if ((x < database.getRegionX() || y < database.getRegionY()) && state.getPiece(x, y) != y * DIMENSION + x)
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
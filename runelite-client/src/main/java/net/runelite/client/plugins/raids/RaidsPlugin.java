@@ -58,8 +58,11 @@ import static net.runelite.api.Perspective.SCENE_SIZE;
 import net.runelite.api.Point;
 import static net.runelite.api.SpriteID.TAB_QUESTS_BROWN_RAIDING_PARTY;
 import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
 import net.runelite.api.VarPlayer;
 import net.runelite.api.Varbits;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.GameStateChanged;
@@ -77,6 +80,7 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatInput;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.game.SceneObjectIndex;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
@@ -143,6 +147,9 @@ public class RaidsPlugin extends Plugin
 	@Inject
 	private ClientThread clientThread;
 
+	@Inject
+	private SceneObjectIndex sceneObjectIndex;
+
 	@Inject
 	private ChatCommandManager chatCommandManager;
 
@@ -478,25 +485,24 @@ public class RaidsPlugin extends Plugin
 
 	private Point findLobbyBase()
 	{
-		Tile[][] tiles = client.getScene().getTiles()[LOBBY_PLANE];
-
-		for (int x = 0; x < SCENE_SIZE; x++)
+		Point base = null;
+		for (TileObject object : sceneObjectIndex.getObjects(NullObjectID.NULL_12231))
 		{
-			for (int y = 0; y < SCENE_SIZE; y++)
+			if (!(object instanceof WallObject) || object.getPlane() != LOBBY_PLANE)
 			{
-				if (tiles[x][y] == null || tiles[x][y].getWallObject() == null)
-				{
-					continue;
-				}
+				continue;
+			}
 
-				if (tiles[x][y].getWallObject().getId() == NullObjectID.NULL_12231)
-				{
-					return tiles[x][y].getSceneLocation();
-				}
+			// use the western, then southern, most wall, same as a scan of the scene would find first
+			LocalPoint localPoint = object.getLocalLocation();
+			if (base == null || localPoint.getSceneX() < base.getX()
+				|| localPoint.getSceneX() == base.getX() && localPoint.getSceneY() < base.getY())
+			{
+				base = new Point(localPoint.getSceneX(), localPoint.getSceneY());
 			}
 		}
 
-		return null;
+		return base;
 	}
 
 	private Raid buildRaid(Raid from)
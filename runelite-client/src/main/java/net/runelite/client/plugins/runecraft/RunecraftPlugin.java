@@ -43,12 +43,13 @@ import net.runelite.api.Item;
 import net.runelite.api.ItemID;
 import net.runelite.api.NPC;
 import net.runelite.api.NpcID;
-import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.DecorativeObjectDespawned;
 import net.runelite.api.events.DecorativeObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.client.Notifier;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessagePattern;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
@@ -96,6 +97,11 @@ public class RunecraftPlugin extends Plugin
 	@Inject
 	private NpcOverlayService npcOverlayService;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
+	private ChatMessagePattern pouchDecayedPattern;
+
 	private final Function<NPC, HighlightedNpc> highlightDarkMage = this::highlightDarkMage;
 
 	@Provides
@@ -110,6 +116,9 @@ public class RunecraftPlugin extends Plugin
 		npcOverlayService.registerHighlighter(highlightDarkMage);
 		overlayManager.add(abyssOverlay);
 		overlayManager.add(abyssMinimapOverlay);
+		pouchDecayedPattern = chatMessageClassifier.registerKeyword(POUCH_DECAYED_MESSAGE, null,
+			(chatMessage, matcher) -> notifier.notify(config.degradingNotification(), POUCH_DECAYED_NOTIFICATION_MESSAGE),
+			ChatMessageType.GAMEMESSAGE);
 	}
 
 	@Override
@@ -118,24 +127,12 @@ public class RunecraftPlugin extends Plugin
 		npcOverlayService.unregisterHighlighter(highlightDarkMage);
 		overlayManager.remove(abyssOverlay);
 		overlayManager.remove(abyssMinimapOverlay);
+		chatMessageClassifier.unregister(pouchDecayedPattern);
+		pouchDecayedPattern = null;
 		abyssObjects.clear();
 		degradedPouchInInventory = false;
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
-	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		if (event.getMessage().contains(POUCH_DECAYED_MESSAGE))
-		{
-			notifier.notify(config.degradingNotification(), POUCH_DECAYED_NOTIFICATION_MESSAGE);
-		}
-	}
-
 	@Subscribe
 	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event)
 	{
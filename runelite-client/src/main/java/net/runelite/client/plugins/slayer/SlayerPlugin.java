@@ -76,6 +76,8 @@ import net.runelite.client.chat.ChatClient;
 import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatCommandManager;
 import net.runelite.client.chat.ChatMessageBuilder;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessagePattern;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ChatInput;
@@ -141,6 +143,9 @@ public class SlayerPlugin extends Plugin
 	@Inject
 	private ChatCommandManager chatCommandManager;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Inject
 	private ScheduledExecutorService executor;
 
@@ -179,6 +184,7 @@ public class SlayerPlugin extends Plugin
 	private final List<Pattern> targetNames = new ArrayList<>();
 
 	private String[] taskLocations;
+	private ChatMessagePattern superiorPattern;
 
 	public final Function<NPC, HighlightedNpc> isTarget = (n) ->
 	{
@@ -209,6 +215,8 @@ public class SlayerPlugin extends Plugin
 	{
 		chatCommandManager.registerCommandAsync(TASK_COMMAND_STRING, this::taskLookup, this::taskSubmit);
 		npcOverlayService.registerHighlighter(isTarget);
+		superiorPattern = chatMessageClassifier.registerKeyword(CHAT_SUPERIOR_MESSAGE, null, this::onSuperiorMessage,
+			ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM);
 
 		overlayManager.add(overlay);
 		overlayManager.add(targetWeaknessOverlay);
@@ -238,6 +246,8 @@ public class SlayerPlugin extends Plugin
 	{
 		chatCommandManager.unregisterCommand(TASK_COMMAND_STRING);
 		npcOverlayService.unregisterHighlighter(isTarget);
+		chatMessageClassifier.unregister(superiorPattern);
+		superiorPattern = null;
 
 		overlayManager.remove(overlay);
 		overlayManager.remove(targetWeaknessOverlay);
@@ -449,14 +459,8 @@ public class SlayerPlugin extends Plugin
 		loginFlag = false;
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
+	private void onSuperiorMessage(ChatMessage event, Matcher matcher)
 	{
-		if (event.getType() != ChatMessageType.GAMEMESSAGE && event.getType() != ChatMessageType.SPAM)
-		{
-			return;
-		}
-
 		String chatMsg = Text.removeTags(event.getMessage()); //remove color and linebreaks
 
 		if (chatMsg.equals(CHAT_SUPERIOR_MESSAGE))
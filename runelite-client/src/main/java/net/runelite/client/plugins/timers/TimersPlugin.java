@@ -31,9 +31,12 @@ import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
 import java.util.regex.Matcher;
@@ -68,6 +71,8 @@ import net.runelite.api.events.GraphicChanged;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.chat.ChatMessageClassifier;
+import net.runelite.client.chat.ChatMessagePattern;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
@@ -109,6 +114,7 @@ public class TimersPlugin extends Plugin
 	private static final String WARD_OF_ARCEUUS_MESSAGE = ">Your defence against Arceuus magic has been strengthened.</col>";
 	private static final String MARK_OF_DARKNESS_MESSAGE = "You have placed a Mark of Darkness upon yourself.</col>";
 	private static final String PICKPOCKET_FAILURE_MESSAGE = "You fail to pick ";
+	private static final String PRAYER_ENHANCE_MESSAGE = "You drink some of your";
 	private static final String DODGY_NECKLACE_PROTECTION_MESSAGE = "Your dodgy necklace protects you.";
 	private static final String SHADOW_VEIL_PROTECTION_MESSAGE = "Your attempt to steal goes unnoticed.";
 	private static final String SILK_DRESSING_MESSAGE = "You quickly apply the dressing to your wounds.";
@@ -129,13 +135,16 @@ public class TimersPlugin extends Plugin
 
 	static final int FIGHT_CAVES_REGION_ID = 9551;
 	static final int INFERNO_REGION_ID = 9043;
+	private static final String TZHAAR_WAVE_KEYWORD = "Wave: ";
 	private static final Pattern TZHAAR_WAVE_MESSAGE = Pattern.compile("Wave: (\\d+)");
+	private static final String TZHAAR_PAUSED_KEYWORD = "has been paused. You may now log out.";
 	private static final Pattern TZHAAR_PAUSED_MESSAGE = Pattern.compile("The (?:Inferno|Fight Cave) has been paused. You may now log out.");
 
 	private TimerTimer freezeTimer;
 	private int freezeTime = -1; // time frozen, in game ticks
 
 	private final Map<GameTimer, TimerTimer> varTimers = new EnumMap<>(GameTimer.class);
+	private final List<ChatMessagePattern> chatMessagePatterns = new ArrayList<>();
 
 	private int nextPoisonTick;
 	private int nextOverloadRefreshTick;
@@ -159,6 +168,9 @@ public class TimersPlugin extends Plugin
 	@Inject
 	private InfoBoxManager infoBoxManager;
 
+	@Inject
+	private ChatMessageClassifier chatMessageClassifier;
+
 	@Provides
 	TimersConfig getConfig(ConfigManager configManager)
 	{
@@ -173,11 +185,48 @@ public class TimersPlugin extends Plugin
 			checkTeleport(LAST_HOME_TELEPORT);
 			checkTeleport(LAST_MINIGAME_TELEPORT);
 		}
+
+		registerKeyword(DODGY_NECKLACE_PROTECTION_MESSAGE, null, this::onPickpocketProtected);
+		registerKeyword(SHADOW_VEIL_PROTECTION_MESSAGE, null, this::onPickpocketProtected);
+		registerKeyword(PICKPOCKET_FAILURE_MESSAGE, null, this::onPickpocketFailure);
+		registerPrefix(ABYSSAL_SIRE_STUN_MESSAGE, null, this::onAbyssalSireStun);
+		for (String cannonMessage : new String[]{CANNON_BASE_MESSAGE, CANNON_STAND_MESSAGE, CANNON_BARRELS_MESSAGE,
+			CANNON_FURNACE_MESSAGE, CANNON_BROKEN_MESSAGE, CANNON_PICKUP_MESSAGE, CANNON_DESTROYED_MESSAGE})
+		{
+			registerPrefix(cannonMessage, null, this::onCannonMessage);
+		}
+		registerKeyword(CANNON_REPAIR_MESSAGE, null, this::onCannonMessage);
+		registerPrefix(PRAYER_ENHANCE_MESSAGE, null, this::onPrayerEnhance);
+		registerPrefix(PRAYER_ENHANCE_EXPIRED, null, this::onPrayerEnhanceExpired);
+		registerKeyword(STAFF_OF_THE_DEAD_SPEC_MESSAGE, null, this::onStaffOfTheDeadSpec);
+		registerKeyword(STAFF_OF_THE_DEAD_SPEC_EXPIRED_MESSAGE, null, this::onStaffOfTheDeadSpecExpired);
+		registerPrefix(FROZEN_MESSAGE, null, this::onFrozen);
+		registerKeyword(SHADOW_VEIL_MESSAGE, null, this::onShadowVeil);
+		registerKeyword(WARD_OF_ARCEUUS_MESSAGE, null, this::onWardOfArceuus);
+		registerKeyword(MARK_OF_DARKNESS_MESSAGE, null, this::onMarkOfDarkness);
+		registerKeyword(RESURRECT_THRALL_MESSAGE_START, null, this::onResurrectThrall);
+		registerKeyword(TZHAAR_PAUSED_KEYWORD, TZHAAR_PAUSED_MESSAGE, this::onTzhaarPaused);
+		registerKeyword(TZHAAR_WAVE_KEYWORD, TZHAAR_WAVE_MESSAGE, this::onTzhaarWave);
+		registerPrefix(SILK_DRESSING_MESSAGE, null, this::onSilkDressing);
+		registerPrefix(BLESSED_CRYSTAL_SCARAB_MESSAGE, null, this::onBlessedCrystalScarab);
+		registerPrefix(LIQUID_ADRENALINE_MESSAGE, null, this::onLiquidAdrenaline);
+	}
+
+	private void registerPrefix(String prefix, Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatMessagePatterns.add(chatMessageClassifier.registerPrefix(prefix, pattern, handler, ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM));
+	}
+
+	private void registerKeyword(String keyword, Pattern pattern, BiConsumer<ChatMessage, Matcher> handler)
+	{
+		chatMessagePatterns.add(chatMessageClassifier.registerKeyword(keyword, pattern, handler, ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM));
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
+		chatMessagePatterns.forEach(chatMessageClassifier::unregister);
+		chatMessagePatterns.clear();
 		infoBoxManager.removeIf(t -> t instanceof TimerTimer);
 		lastPoint = null;
 		nextPoisonTick = 0;
@@ -773,21 +822,15 @@ public class TimersPlugin extends Plugin
 		}
 	}
 
-	@Subscribe
-	public void onChatMessage(ChatMessage event)
+	private void onPickpocketProtected(ChatMessage event, Matcher matcher)
 	{
-		final String message = event.getMessage();
-		if (event.getType() != ChatMessageType.SPAM && event.getType() != ChatMessageType.GAMEMESSAGE)
-		{
-			return;
-		}
-
-		if (message.contains(DODGY_NECKLACE_PROTECTION_MESSAGE) || message.contains(SHADOW_VEIL_PROTECTION_MESSAGE))
-		{
-			removeGameTimer(PICKPOCKET_STUN);
-		}
+		removeGameTimer(PICKPOCKET_STUN);
+	}
 
-		if (message.contains(PICKPOCKET_FAILURE_MESSAGE) && config.showPickpocketStun() && message.contains("pocket"))
+	private void onPickpocketFailure(ChatMessage event, Matcher matcher)
+	{
+		final String message = event.getMessage();
+		if (config.showPickpocketStun() && message.contains("pocket"))
 		{
 			if (message.contains("hero") || message.contains("elf"))
 			{
@@ -798,166 +841,210 @@ public class TimersPlugin extends Plugin
 				createGameTimer(PICKPOCKET_STUN, Duration.ofSeconds(5));
 			}
 		}
+	}
 
-		if (message.equals(ABYSSAL_SIRE_STUN_MESSAGE) && config.showAbyssalSireStun())
+	private void onAbyssalSireStun(ChatMessage event, Matcher matcher)
+	{
+		if (event.getMessage().equals(ABYSSAL_SIRE_STUN_MESSAGE) && config.showAbyssalSireStun())
 		{
 			createGameTimer(ABYSSAL_SIRE_STUN);
 		}
+	}
 
-		if (config.showCannon())
+	private void onCannonMessage(ChatMessage event, Matcher matcher)
+	{
+		if (!config.showCannon())
 		{
-			if (message.equals(CANNON_BASE_MESSAGE) || message.equals(CANNON_STAND_MESSAGE)
-				|| message.equals(CANNON_BARRELS_MESSAGE) || message.equals(CANNON_FURNACE_MESSAGE)
-				|| message.contains(CANNON_REPAIR_MESSAGE))
-			{
-				removeGameTimer(CANNON_REPAIR);
-				TimerTimer cannonTimer = createGameTimer(CANNON);
-				cannonTimer.setTooltip(cannonTimer.getTooltip() + " - World " + client.getWorld());
-			}
-			else if (message.equals(CANNON_BROKEN_MESSAGE))
-			{
-				removeGameTimer(CANNON);
-				TimerTimer cannonTimer = createGameTimer(CANNON_REPAIR);
-				cannonTimer.setTooltip(cannonTimer.getTooltip() + " - World " + client.getWorld());
-			}
-			else if (message.equals(CANNON_PICKUP_MESSAGE) || message.equals(CANNON_DESTROYED_MESSAGE))
-			{
-				removeGameTimer(CANNON);
-				removeGameTimer(CANNON_REPAIR);
-			}
+			return;
+		}
+
+		final String message = event.getMessage();
+		if (message.equals(CANNON_BASE_MESSAGE) || message.equals(CANNON_STAND_MESSAGE)
+			|| message.equals(CANNON_BARRELS_MESSAGE) || message.equals(CANNON_FURNACE_MESSAGE)
+			|| message.contains(CANNON_REPAIR_MESSAGE))
+		{
+			removeGameTimer(CANNON_REPAIR);
+			TimerTimer cannonTimer = createGameTimer(CANNON);
+			cannonTimer.setTooltip(cannonTimer.getTooltip() + " - World " + client.getWorld());
+		}
+		else if (message.equals(CANNON_BROKEN_MESSAGE))
+		{
+			removeGameTimer(CANNON);
+			TimerTimer cannonTimer = createGameTimer(CANNON_REPAIR);
+			cannonTimer.setTooltip(cannonTimer.getTooltip() + " - World " + client.getWorld());
+		}
+		else if (message.equals(CANNON_PICKUP_MESSAGE) || message.equals(CANNON_DESTROYED_MESSAGE))
+		{
+			removeGameTimer(CANNON);
+			removeGameTimer(CANNON_REPAIR);
 		}
+	}
 
-		if (config.showPrayerEnhance() && message.startsWith("You drink some of your") && message.contains("prayer enhance"))
+	private void onPrayerEnhance(ChatMessage event, Matcher matcher)
+	{
+		if (config.showPrayerEnhance() && event.getMessage().contains("prayer enhance"))
 		{
 			createGameTimer(PRAYER_ENHANCE);
 		}
+	}
 
-		if (config.showPrayerEnhance() && message.equals(PRAYER_ENHANCE_EXPIRED))
+	private void onPrayerEnhanceExpired(ChatMessage event, Matcher matcher)
+	{
+		if (config.showPrayerEnhance() && event.getMessage().equals(PRAYER_ENHANCE_EXPIRED))
 		{
 			removeGameTimer(PRAYER_ENHANCE);
 		}
+	}
 
-		if (config.showStaffOfTheDead() && message.contains(STAFF_OF_THE_DEAD_SPEC_MESSAGE))
+	private void onStaffOfTheDeadSpec(ChatMessage event, Matcher matcher)
+	{
+		if (config.showStaffOfTheDead())
 		{
 			createGameTimer(STAFF_OF_THE_DEAD);
 		}
+	}
 
-		if (config.showStaffOfTheDead() && message.contains(STAFF_OF_THE_DEAD_SPEC_EXPIRED_MESSAGE))
+	private void onStaffOfTheDeadSpecExpired(ChatMessage event, Matcher matcher)
+	{
+		if (config.showStaffOfTheDead())
 		{
 			removeGameTimer(STAFF_OF_THE_DEAD);
 		}
+	}
 
-		if (config.showFreezes() && message.equals(FROZEN_MESSAGE))
+	private void onFrozen(ChatMessage event, Matcher matcher)
+	{
+		if (config.showFreezes() && event.getMessage().equals(FROZEN_MESSAGE))
 		{
 			freezeTimer = createGameTimer(ICEBARRAGE);
 			freezeTime = client.getTickCount();
 		}
+	}
 
+	private void onShadowVeil(ChatMessage event, Matcher matcher)
+	{
+		if (config.showArceuus() && event.getMessage().endsWith(SHADOW_VEIL_MESSAGE))
+		{
+			createGameTimer(SHADOW_VEIL, Duration.of(client.getRealSkillLevel(Skill.MAGIC), RSTimeUnit.GAME_TICKS));
+		}
+	}
+
+	private void onWardOfArceuus(ChatMessage event, Matcher matcher)
+	{
+		if (config.showArceuus() && event.getMessage().endsWith(WARD_OF_ARCEUUS_MESSAGE))
+		{
+			createGameTimer(WARD_OF_ARCEUUS, Duration.of(client.getRealSkillLevel(Skill.MAGIC), RSTimeUnit.GAME_TICKS));
+		}
+	}
+
+	private void onMarkOfDarkness(ChatMessage event, Matcher matcher)
+	{
+		if (!event.getMessage().endsWith(MARK_OF_DARKNESS_MESSAGE))
+		{
+			return;
+		}
+
+		final int magicLevel = client.getRealSkillLevel(Skill.MAGIC);
 		if (config.showArceuus())
 		{
-			final int magicLevel = client.getRealSkillLevel(Skill.MAGIC);
-			if (message.endsWith(SHADOW_VEIL_MESSAGE))
-			{
-				createGameTimer(SHADOW_VEIL, Duration.of(magicLevel, RSTimeUnit.GAME_TICKS));
-			}
-			else if (message.endsWith(WARD_OF_ARCEUUS_MESSAGE))
-			{
-				createGameTimer(WARD_OF_ARCEUUS, Duration.of(magicLevel, RSTimeUnit.GAME_TICKS));
-			}
-			else if (message.endsWith(MARK_OF_DARKNESS_MESSAGE))
+			createGameTimer(MARK_OF_DARKNESS, Duration.of(magicLevel, RSTimeUnit.GAME_TICKS));
+		}
+
+		if (config.showArceuusCooldown())
+		{
+			createGameTimer(MARK_OF_DARKNESS_COOLDOWN, Duration.of(magicLevel - 10, RSTimeUnit.GAME_TICKS));
+		}
+	}
+
+	private void onResurrectThrall(ChatMessage event, Matcher matcher)
+	{
+		if (config.showArceuus() && event.getMessage().endsWith(RESURRECT_THRALL_MESSAGE_END))
+		{
+			// by default the thrall lasts 1 tick per magic level
+			int t = client.getBoostedSkillLevel(Skill.MAGIC);
+			// ca tiers being completed boosts this
+			if (client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENT_TIER_GRANDMASTER) == 2)
 			{
-				createGameTimer(MARK_OF_DARKNESS, Duration.of(magicLevel, RSTimeUnit.GAME_TICKS));
+				t += t; // 100% boost
 			}
-			else if (message.contains(RESURRECT_THRALL_MESSAGE_START) && message.endsWith(RESURRECT_THRALL_MESSAGE_END))
+			else if (client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENT_TIER_MASTER) == 2)
 			{
-				// by default the thrall lasts 1 tick per magic level
-				int t = client.getBoostedSkillLevel(Skill.MAGIC);
-				// ca tiers being completed boosts this
-				if (client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENT_TIER_GRANDMASTER) == 2)
-				{
-					t += t; // 100% boost
-				}
-				else if (client.getVarbitValue(Varbits.COMBAT_ACHIEVEMENT_TIER_MASTER) == 2)
-				{
-					t += t / 2; // 50% boost
-				}
-				createGameTimer(RESURRECT_THRALL, Duration.of(t, RSTimeUnit.GAME_TICKS));
+				t += t / 2; // 50% boost
 			}
+			createGameTimer(RESURRECT_THRALL, Duration.of(t, RSTimeUnit.GAME_TICKS));
 		}
+	}
 
-		if (config.showArceuusCooldown())
+	private void onTzhaarPaused(ChatMessage event, Matcher matcher)
+	{
+		log.debug("Pausing tzhaar timer");
+		config.tzhaarLastTime(Instant.now());
+		if (config.showTzhaarTimers())
 		{
-			final int magicLevel = client.getRealSkillLevel(Skill.MAGIC);
-			if (message.endsWith(MARK_OF_DARKNESS_MESSAGE))
-			{
-				createGameTimer(MARK_OF_DARKNESS_COOLDOWN, Duration.of(magicLevel - 10, RSTimeUnit.GAME_TICKS));
-			}
+			createTzhaarTimer();
 		}
+	}
 
-		if (TZHAAR_PAUSED_MESSAGE.matcher(message).find())
+	private void onTzhaarWave(ChatMessage event, Matcher matcher)
+	{
+		int wave = Integer.parseInt(matcher.group(1));
+		if (wave == 1)
 		{
-			log.debug("Pausing tzhaar timer");
-			config.tzhaarLastTime(Instant.now());
+			log.debug("Starting tzhaar timer");
+
+			Instant now = Instant.now();
+			if (isInInferno())
+			{
+				// The first wave message of the inferno comes six seconds after the ingame timer starts counting
+				config.tzhaarStartTime(now.minus(Duration.ofSeconds(6)));
+			}
+			else
+			{
+				config.tzhaarStartTime(now);
+			}
+			config.tzhaarLastTime(null);
+
 			if (config.showTzhaarTimers())
 			{
 				createTzhaarTimer();
 			}
-			return;
 		}
-
-		Matcher matcher = TZHAAR_WAVE_MESSAGE.matcher(message);
-		if (matcher.find())
+		else if (config.tzhaarStartTime() != null && config.tzhaarLastTime() != null)
 		{
-			int wave = Integer.parseInt(matcher.group(1));
-			if (wave == 1)
-			{
-				log.debug("Starting tzhaar timer");
+			log.debug("Unpausing tzhaar timer");
 
-				Instant now = Instant.now();
-				if (isInInferno())
-				{
-					// The first wave message of the inferno comes six seconds after the ingame timer starts counting
-					config.tzhaarStartTime(now.minus(Duration.ofSeconds(6)));
-				}
-				else
-				{
-					config.tzhaarStartTime(now);
-				}
-				config.tzhaarLastTime(null);
+			// Advance start time by how long it has been paused
+			Instant tzhaarStartTime = config.tzhaarStartTime();
+			tzhaarStartTime = tzhaarStartTime.plus(Duration.between(config.tzhaarLastTime(), Instant.now()));
+			config.tzhaarStartTime(tzhaarStartTime);
 
-				if (config.showTzhaarTimers())
-				{
-					createTzhaarTimer();
-				}
-			}
-			else if (config.tzhaarStartTime() != null && config.tzhaarLastTime() != null)
+			config.tzhaarLastTime(null);
+			if (config.showTzhaarTimers())
 			{
-				log.debug("Unpausing tzhaar timer");
-
-				// Advance start time by how long it has been paused
-				Instant tzhaarStartTime = config.tzhaarStartTime();
-				tzhaarStartTime = tzhaarStartTime.plus(Duration.between(config.tzhaarLastTime(), Instant.now()));
-				config.tzhaarStartTime(tzhaarStartTime);
-
-				config.tzhaarLastTime(null);
-				if (config.showTzhaarTimers())
-				{
-					createTzhaarTimer();
-				}
+				createTzhaarTimer();
 			}
 		}
+	}
 
-		if (message.equals(SILK_DRESSING_MESSAGE) && config.showSilkDressing())
+	private void onSilkDressing(ChatMessage event, Matcher matcher)
+	{
+		if (event.getMessage().equals(SILK_DRESSING_MESSAGE) && config.showSilkDressing())
 		{
 			createGameTimer(SILK_DRESSING);
 		}
+	}
 
-		if (message.equals(BLESSED_CRYSTAL_SCARAB_MESSAGE) && config.showBlessedCrystalScarab())
+	private void onBlessedCrystalScarab(ChatMessage event, Matcher matcher)
+	{
+		if (event.getMessage().equals(BLESSED_CRYSTAL_SCARAB_MESSAGE) && config.showBlessedCrystalScarab())
 		{
 			createGameTimer(BLESSED_CRYSTAL_SCARAB);
 		}
+	}
 
-		if (message.equals(LIQUID_ADRENALINE_MESSAGE) && config.showLiquidAdrenaline())
+	private void onLiquidAdrenaline(ChatMessage event, Matcher matcher)
+	{
+		if (event.getMessage().equals(LIQUID_ADRENALINE_MESSAGE) && config.showLiquidAdrenaline())
 		{
 			createGameTimer(LIQUID_ADRENALINE);
 		}
@@ -36,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -81,7 +82,7 @@ import net.runelite.client.game.WorldService;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
-import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.WorldPinger;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -107,6 +108,8 @@ public class WorldHopperPlugin extends Plugin
 
 	private static final int DISPLAY_SWITCHER_MAX_ATTEMPTS = 3;
 
+	private static final int MAX_CONCURRENT_PINGS = 8;
+
 	private static final String HOP_TO = "Hop-to";
 	private static final String KICK_OPTION = "Kick";
 	private static final ImmutableList<String> BEFORE_OPTIONS = ImmutableList.of("Add friend", "Remove friend", KICK_OPTION);
@@ -143,6 +146,8 @@ public class WorldHopperPlugin extends Plugin
 	private WorldService worldService;
 
 	private ScheduledExecutorService hopperExecutorService;
+	private ExecutorService pingExecutorService;
+	private WorldPinger worldPinger;
 
 	private NavigationButton navButton;
 	private WorldSwitcherPanel panel;
@@ -162,8 +167,6 @@ public class WorldHopperPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private int currentPing;
 
-	private final Map<Integer, Integer> storedPings = new HashMap<>();
-
 	private final HotkeyListener previousKeyListener = new HotkeyListener(() -> config.previousKey())
 	{
 		@Override
@@ -192,6 +195,10 @@ public class WorldHopperPlugin extends Plugin
 	{
 		currentPing = -1;
 
+		// The first-run ping is done concurrently, with a bounded number of pings in flight
+		pingExecutorService = new ExecutorServiceExceptionLogger(Executors.newScheduledThreadPool(MAX_CONCURRENT_PINGS));
+		worldPinger = new WorldPinger(pingExecutorService);
+
 		keyManager.registerKeyListener(previousKeyListener);
 		keyManager.registerKeyListener(nextKeyListener);
 
@@ -246,6 +253,9 @@ public class WorldHopperPlugin extends Plugin
 
 		hopperExecutorService.shutdown();
 		hopperExecutorService = null;
+
+		pingExecutorService.shutdownNow();
+		pingExecutorService = null;
 	}
 
 	@Subscribe
@@ -808,7 +818,7 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds. This is only run on first run.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -820,11 +830,7 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
-		{
-			int ping = ping(world);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+		worldPinger.pingAll(worldResult.getWorlds(), pings -> SwingUtilities.invokeLater(() -> panel.updatePings(pings)));
 
 		stopwatch.stop();
 
@@ -914,13 +920,11 @@ public class WorldHopperPlugin extends Plugin
 			return null;
 		}
 
-		return storedPings.get(world.getId());
+		return worldPinger.getPing(world.getId());
 	}
 
 	private int ping(World world)
 	{
-		int ping = Ping.ping(world);
-		storedPings.put(world.getId(), ping);
-		return ping;
+		return worldPinger.ping(world);
 	}
 }
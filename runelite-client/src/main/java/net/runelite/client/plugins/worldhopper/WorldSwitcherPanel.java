@@ -160,6 +160,24 @@ class WorldSwitcherPanel extends PluginPanel
 		}
 	}
 
+	void updatePings(Map<Integer, Integer> pings)
+	{
+		for (WorldTableRow worldTableRow : rows)
+		{
+			Integer ping = pings.get(worldTableRow.getWorld().getId());
+			if (ping != null)
+			{
+				worldTableRow.setPing(ping);
+			}
+		}
+
+		// If the panel is sorted by ping, re-sort it once for the whole batch
+		if (orderIndex == WorldOrder.PING)
+		{
+			updateList();
+		}
+	}
+
 	void hidePing()
 	{
 		for (WorldTableRow worldTableRow : rows)
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings worlds and keeps an exponentially weighted moving average of each world's ping, so a single
+ * slow reply doesn't reorder the world list. Pinging many worlds is done concurrently on the given
+ * executor, which bounds the number of pings in flight.
+ */
+@Slf4j
+public class WorldPinger
+{
+	// weight of a new sample in the average
+	private static final double SMOOTHING = 0.3;
+	private static final long BATCH_INTERVAL_MS = 250;
+
+	private final ExecutorService executor;
+	private final ToIntFunction<World> pinger;
+	private final Map<Integer, Integer> pings = new ConcurrentHashMap<>();
+
+	public WorldPinger(ExecutorService executor)
+	{
+		this(executor, Ping::ping);
+	}
+
+	WorldPinger(ExecutorService executor, ToIntFunction<World> pinger)
+	{
+		this.executor = executor;
+		this.pinger = pinger;
+	}
+
+	/**
+	 * Ping a world on the calling thread
+	 *
+	 * @param world world to ping
+	 * @return the smoothed ping, or -1 if the world did not respond
+	 */
+	public int ping(World world)
+	{
+		final int sample = pinger.applyAsInt(world);
+		// an unresponsive world is reported as such immediately, and a world which starts
+		// responding again starts a new average
+		return pings.merge(world.getId(), sample, (previous, ping) ->
+			previous < 0 || ping < 0 ? ping : (int) Math.round(SMOOTHING * ping + (1 - SMOOTHING) * previous));
+	}
+
+	/**
+	 * Get the smoothed ping of a world
+	 *
+	 * @param worldId world id
+	 * @return the ping, -1 if the world did not respond, or null if it has not been pinged
+	 */
+	public Integer getPing(int worldId)
+	{
+		return pings.get(worldId);
+	}
+
+	/**
+	 * Ping all of the given worlds concurrently, blocking until they are done or the executor is
+	 * shut down. Results are passed to the callback in batches, on the calling thread, as the pings
+	 * complete.
+	 *
+	 * @param worlds worlds to ping
+	 * @param callback receives maps of world id to smoothed ping
+	 */
+	public void pingAll(Collection<World> worlds, Consumer<Map<Integer, Integer>> callback)
+	{
+		final CompletionService<World> completionService = new ExecutorCompletionService<>(executor);
+		int outstanding = 0;
+		try
+		{
+			for (World world : worlds)
+			{
+				completionService.submit(() ->
+				{
+					ping(world);
+					return world;
+				});
+				++outstanding;
+			}
+		}
+		catch (RejectedExecutionException ex)
+		{
+			log.debug("ping executor has shut down", ex);
+		}
+
+		Map<Integer, Integer> batch = new HashMap<>();
+		long lastFlush = System.currentTimeMillis();
+		try
+		{
+			while (outstanding > 0)
+			{
+				final Future<World> future = completionService.poll(BATCH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+				if (future != null)
+				{
+					--outstanding;
+					try
+					{
+						final World world = future.get();
+						batch.put(world.getId(), pings.get(world.getId()));
+					}
+					catch (ExecutionException ex)
+					{
+						log.warn("error pinging world", ex.getCause());
+					}
+				}
+				else if (executor.isShutdown())
+				{
+					// pings dropped by shutdownNow() never complete
+					log.debug("ping executor has shut down with {} pings outstanding", outstanding);
+					break;
+				}
+
+				final long now = System.currentTimeMillis();
+				if (!batch.isEmpty() && (outstanding == 0 || now - lastFlush >= BATCH_INTERVAL_MS))
+				{
+					callback.accept(batch);
+					batch = new HashMap<>();
+					lastFlush = now;
+				}
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -34,4 +34,5 @@ class XpAction
 	private boolean actionsHistoryInitialized = false;
 	private int[] actionExps = new int[10];
 	private int actionExpIndex = 0;
+	private final XpHistory history = new XpHistory();
 }
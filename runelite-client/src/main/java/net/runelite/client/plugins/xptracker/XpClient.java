@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.xptracker;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 import javax.inject.Named;
 import lombok.extern.slf4j.Slf4j;
@@ -48,8 +49,15 @@ public class XpClient
 		this.apiBase = apiBase;
 	}
 
-	public void update(String username)
+	/**
+	 * Submits an xp update for the given player. The returned future fails with an {@link IOException} if
+	 * the update is worth retrying, such as on network or server errors and rate limiting; other failures
+	 * are logged and dropped.
+	 */
+	public CompletableFuture<Void> update(String username)
 	{
+		CompletableFuture<Void> future = new CompletableFuture<>();
+
 		HttpUrl url = apiBase.newBuilder()
 			.addPathSegment("xp")
 			.addPathSegment("update")
@@ -65,15 +73,34 @@ public class XpClient
 			@Override
 			public void onFailure(Call call, IOException e)
 			{
-				log.warn("Error submitting xp track", e);
+				future.completeExceptionally(e);
 			}
 
 			@Override
 			public void onResponse(Call call, Response response)
 			{
-				response.close();
-				log.debug("Submitted xp track for {}", username);
+				try (response)
+				{
+					int code = response.code();
+					if (code >= 500 || code == 429)
+					{
+						future.completeExceptionally(new IOException("Error submitting xp track: " + code));
+						return;
+					}
+
+					if (!response.isSuccessful())
+					{
+						log.debug("xp track for {} rejected: {}", username, code);
+					}
+					else
+					{
+						log.debug("Submitted xp track for {}", username);
+					}
+					future.complete(null);
+				}
 			}
 		});
+
+		return future;
 	}
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.util.EnumMap;
+import java.util.Map;
+import net.runelite.api.Skill;
+
+/**
+ * The xp histories of one account, which are saved to its RuneScape profile so the hourly
+ * rollups outlive the tracker's session.
+ */
+class XpHistories
+{
+	private Map<Skill, XpHistory> skills = new EnumMap<>(Skill.class);
+	private XpHistory overall = new XpHistory();
+
+	XpHistory getSkill(Skill skill)
+	{
+		return skills.computeIfAbsent(skill, s -> new XpHistory());
+	}
+
+	XpHistory getOverall()
+	{
+		return overall;
+	}
+
+	boolean isEmpty()
+	{
+		return skills.values().stream().allMatch(XpHistory::isEmpty) && overall.isEmpty();
+	}
+
+	/**
+	 * Get a copy sharing only the histories which have anything recorded, to keep the saved value small
+	 */
+	XpHistories withoutEmpty()
+	{
+		XpHistories histories = new XpHistories();
+		for (Map.Entry<Skill, XpHistory> entry : skills.entrySet())
+		{
+			if (!entry.getValue().isEmpty())
+			{
+				histories.skills.put(entry.getKey(), entry.getValue());
+			}
+		}
+		histories.overall = overall;
+		return histories;
+	}
+}
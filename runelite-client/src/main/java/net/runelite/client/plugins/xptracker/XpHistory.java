@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.util.Arrays;
+
+/**
+ * A rolling history of a counter, such as xp or actions. Amounts are kept in one bucket per minute
+ * for the last hour, so the recent total is maintained incrementally as old minutes expire, and
+ * rolled up into one bucket per hour for the last day.
+ */
+class XpHistory
+{
+	static final int MINUTES = 60;
+	static final int HOURS = 24;
+	private static final long MINUTE_MILLIS = 60_000L;
+	private static final long HOUR_MILLIS = MINUTES * MINUTE_MILLIS;
+
+	private final int[] minutes = new int[MINUTES];
+	private long lastMinute = -1;
+	// the first and last minutes recorded since the minute buckets were last empty
+	private long firstMinute = -1;
+	private long lastRecordedMinute = -1;
+	private long total;
+
+	private final int[] hours = new int[HOURS];
+	private long lastHour = -1;
+
+	void record(long millis, int amount)
+	{
+		advance(millis);
+		if (firstMinute == -1)
+		{
+			firstMinute = lastMinute;
+		}
+		lastRecordedMinute = lastMinute;
+		minutes[(int) (lastMinute % MINUTES)] += amount;
+		total += amount;
+		hours[(int) (lastHour % HOURS)] += amount;
+	}
+
+	/**
+	 * Get the sum of the amounts recorded in the last hour
+	 *
+	 * @param millis current time in millis
+	 * @return hourly total
+	 */
+	long getTotal(long millis)
+	{
+		advance(millis);
+		return total;
+	}
+
+	/**
+	 * Get the length of time covered by {@link #getTotal(long)}, which is the time since the first
+	 * recorded minute, up to an hour.
+	 *
+	 * @param millis current time in millis
+	 * @return the covered time in millis, or 0 if nothing has been recorded in the last hour
+	 */
+	long getWindowMillis(long millis)
+	{
+		advance(millis);
+		if (firstMinute == -1)
+		{
+			return 0;
+		}
+		return Math.min(HOUR_MILLIS, millis - firstMinute * MINUTE_MILLIS);
+	}
+
+	/**
+	 * Get the hourly rollups of the last day
+	 *
+	 * @param millis current time in millis
+	 * @return the sum of the amounts recorded in each of the last {@link #HOURS} hours, oldest first
+	 */
+	int[] getHourlyTotals(long millis)
+	{
+		advance(millis);
+		int[] totals = new int[HOURS];
+		if (lastHour != -1)
+		{
+			for (int i = 0; i < HOURS; ++i)
+			{
+				totals[i] = hours[(int) ((lastHour + 1 + i) % HOURS)];
+			}
+		}
+		return totals;
+	}
+
+	boolean isEmpty()
+	{
+		for (int amount : hours)
+		{
+			if (amount != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Clear the last hour, keeping the hourly rollups
+	 */
+	void clearRecent()
+	{
+		Arrays.fill(minutes, 0);
+		lastMinute = -1;
+		firstMinute = -1;
+		lastRecordedMinute = -1;
+		total = 0;
+	}
+
+	void clear()
+	{
+		clearRecent();
+		Arrays.fill(hours, 0);
+		lastHour = -1;
+	}
+
+	private void advance(long millis)
+	{
+		advanceMinutes(millis / MINUTE_MILLIS);
+		advanceHours(millis / HOUR_MILLIS);
+	}
+
+	private void advanceMinutes(long minute)
+	{
+		if (lastMinute == -1 || minute - lastMinute >= MINUTES)
+		{
+			Arrays.fill(minutes, 0);
+			lastMinute = minute;
+			firstMinute = -1;
+			lastRecordedMinute = -1;
+			total = 0;
+			return;
+		}
+
+		// if the clock goes backwards, amounts keep being recorded into the latest minute
+		while (lastMinute < minute)
+		{
+			int idx = (int) (++lastMinute % MINUTES);
+			total -= minutes[idx];
+			minutes[idx] = 0;
+		}
+
+		if (lastRecordedMinute != -1 && lastMinute - lastRecordedMinute >= MINUTES)
+		{
+			// everything recorded has expired
+			firstMinute = -1;
+			lastRecordedMinute = -1;
+		}
+	}
+
+	private void advanceHours(long hour)
+	{
+		if (lastHour == -1 || hour - lastHour >= HOURS)
+		{
+			Arrays.fill(hours, 0);
+			lastHour = hour;
+			return;
+		}
+
+		while (lastHour < hour)
+		{
+			hours[(int) (++lastHour % HOURS)] = 0;
+		}
+	}
+}
@@ -37,10 +37,12 @@ public enum XpPanelLabel
 
 	XP_GAINED("XP Gained", snap -> format(snap.getXpGainedInSession())),
 	XP_HOUR("XP/hr", snap -> format(snap.getXpPerHour())),
+	RECENT_XP_HOUR("Recent XP/hr", snap -> format(snap.getRecentXpPerHour())),
 	XP_LEFT("XP Left", snap -> format(snap.getXpRemainingToGoal())),
 
 	ACTIONS_LEFT("Actions", snap -> format(snap.getActionsRemainingToGoal())),
 	ACTIONS_HOUR("Actions/hr", snap -> format(snap.getActionsPerHour())),
+	RECENT_ACTIONS_HOUR("Recent Actions/hr", snap -> format(snap.getRecentActionsPerHour())),
 	ACTIONS_DONE("Actions Done", snap -> format(snap.getActionsInSession())),
 	;
 
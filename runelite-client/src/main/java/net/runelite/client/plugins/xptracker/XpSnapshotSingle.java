@@ -39,10 +39,12 @@ class XpSnapshotSingle
 	private int xpGainedInSession;
 	private int xpRemainingToGoal;
 	private int xpPerHour;
+	private int recentXpPerHour;
 	private double skillProgressToGoal;
 	private int actionsInSession;
 	private int actionsRemainingToGoal;
 	private int actionsPerHour;
+	private int recentActionsPerHour;
 	private String timeTillGoal;
 	private String timeTillGoalHours;
 	private String timeTillGoalShort;
@@ -43,7 +43,8 @@ class XpState
 	private static final double DEFAULT_XP_MODIFIER = 4.0;
 	private static final double SHARED_XP_MODIFIER = DEFAULT_XP_MODIFIER / 3.0;
 	private final Map<Skill, XpStateSingle> xpSkills = new EnumMap<>(Skill.class);
-	private XpStateSingle overall = new XpStateSingle(-1);
+	private XpHistories histories = new XpHistories();
+	private XpStateSingle overall = new XpStateSingle(-1, histories.getOverall());
 	private NPC interactedNPC;
 
 	@Inject
@@ -51,11 +52,32 @@ class XpState
 
 	/**
 	 * Destroys all internal state, however any XpSnapshotSingle or XpSnapshotTotal remain unaffected.
+	 * The xp histories are kept, since they belong to the account rather than the session.
 	 */
 	void reset()
 	{
 		xpSkills.clear();
-		overall = new XpStateSingle(-1);
+		overall = new XpStateSingle(-1, histories.getOverall());
+	}
+
+	XpHistories getHistories()
+	{
+		return histories;
+	}
+
+	/**
+	 * Replace the xp histories, such as with the saved histories of a different account
+	 *
+	 * @param histories the new histories
+	 */
+	void setHistories(@NonNull XpHistories histories)
+	{
+		this.histories = histories;
+		for (Map.Entry<Skill, XpStateSingle> entry : xpSkills.entrySet())
+		{
+			entry.getValue().setXpHistory(histories.getSkill(entry.getKey()));
+		}
+		overall.setXpHistory(histories.getOverall());
 	}
 
 	/**
@@ -123,7 +145,7 @@ class XpState
 	{
 		if (overall == null || overall.getStartXp() + overall.getTotalXpGained() > currentXp)
 		{
-			overall = new XpStateSingle(currentXp);
+			overall = new XpStateSingle(currentXp, histories.getOverall());
 		}
 		else
 		{
@@ -200,6 +222,7 @@ class XpState
 
 		final XpAction xpAction = state.getXpAction(XpActionType.ACTOR_HEALTH);
 		xpAction.setActionsSinceReset(xpAction.getActionsSinceReset() + 1);
+		xpAction.getHistory().record(System.currentTimeMillis(), 1);
 		return xpAction.isActionsHistoryInitialized() ? XpUpdateResult.UPDATED : XpUpdateResult.NO_CHANGE;
 	}
 
@@ -241,12 +264,12 @@ class XpState
 	 */
 	void initializeSkill(Skill skill, long currentXp)
 	{
-		xpSkills.put(skill, new XpStateSingle(currentXp));
+		xpSkills.put(skill, new XpStateSingle(currentXp, histories.getSkill(skill)));
 	}
 
 	void initializeOverall(long currentXp)
 	{
-		overall = new XpStateSingle(currentXp);
+		overall = new XpStateSingle(currentXp, histories.getOverall());
 	}
 
 	boolean isInitialized(Skill skill)
@@ -263,7 +286,18 @@ class XpState
 	@NonNull
 	XpStateSingle getSkill(Skill skill)
 	{
-		return xpSkills.computeIfAbsent(skill, (s) -> new XpStateSingle(-1));
+		return xpSkills.computeIfAbsent(skill, (s) -> new XpStateSingle(-1, histories.getSkill(s)));
+	}
+
+	/**
+	 * Get the xp gained in each of the last {@link XpHistory#HOURS} hours
+	 *
+	 * @param skill Skill to get the xp of
+	 * @return hourly xp, oldest first
+	 */
+	int[] getHourlyXp(Skill skill)
+	{
+		return histories.getSkill(skill).getHourlyTotals(System.currentTimeMillis());
 	}
 
 	/**
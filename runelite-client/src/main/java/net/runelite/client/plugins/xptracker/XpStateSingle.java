@@ -38,6 +38,8 @@ import net.runelite.api.Experience;
 class XpStateSingle
 {
 	private final Map<XpActionType, XpAction> actions = new EnumMap<>(XpActionType.class);
+	@Setter
+	private XpHistory xpHistory;
 
 	@Getter
 	@Setter
@@ -59,9 +61,10 @@ class XpStateSingle
 	private int startLevelExp = 0;
 	private int endLevelExp = 0;
 
-	XpStateSingle(long startXp)
+	XpStateSingle(long startXp, XpHistory xpHistory)
 	{
 		this.startXp = startXp;
+		this.xpHistory = xpHistory;
 	}
 
 	XpAction getXpAction(final XpActionType type)
@@ -90,11 +93,26 @@ class XpStateSingle
 		return toHourly(getXpAction(actionType).getActionsSinceReset());
 	}
 
+	private int getRecentActionsHr()
+	{
+		return toRecentHourly(getXpAction(actionType).getHistory());
+	}
+
 	private int toHourly(int value)
 	{
 		return (int) ((1.0 / (getTimeElapsedInSeconds() / 3600.0)) * value);
 	}
 
+	private static int toRecentHourly(XpHistory history)
+	{
+		final long now = System.currentTimeMillis();
+		final long value = history.getTotal(now);
+		// Divide by the wall clock time the history covers, at most the last hour. As with the
+		// session rate, pretend at least a minute has passed to avoid huge rates at the start.
+		final long seconds = Math.max(60, history.getWindowMillis(now) / 1000);
+		return (int) (value * 3600 / seconds);
+	}
+
 	private long getTimeElapsedInSeconds()
 	{
 		// If the skill started just now, we can divide by near zero, this results in odd behavior.
@@ -214,6 +232,11 @@ class XpStateSingle
 		return toHourly(xpGainedSinceReset);
 	}
 
+	int getRecentXpHr()
+	{
+		return toRecentHourly(xpHistory);
+	}
+
 	void resetPerHour()
 	{
 		//reset actions per hour
@@ -221,9 +244,11 @@ class XpStateSingle
 		{
 			action.setActions(action.getActions() + action.getActionsSinceReset());
 			action.setActionsSinceReset(0);
+			action.getHistory().clear();
 		}
 
-		//reset xp per hour
+		//reset xp per hour, keeping the hourly rollups of the account
+		xpHistory.clearRecent();
 		xpGainedBeforeReset += xpGainedSinceReset;
 		setXpGainedSinceReset(0);
 		setSkillTime(0);
@@ -268,6 +293,9 @@ class XpStateSingle
 		// Calculate experience gained
 		setXpGainedSinceReset((int) (currentXp - (startXp + xpGainedBeforeReset)));
 
+		action.getHistory().record(lastChangeMillis, 1);
+		xpHistory.record(lastChangeMillis, actionExp);
+
 		return true;
 	}
 
@@ -313,11 +341,13 @@ class XpStateSingle
 			.xpGainedInSession(getTotalXpGained())
 			.xpRemainingToGoal(getXpRemaining())
 			.xpPerHour(getXpHr())
+			.recentXpPerHour(getRecentXpHr())
 			.skillProgressToGoal(getSkillProgress())
 			.actionType(actionType)
 			.actionsInSession(getXpAction(actionType).getActions() + getXpAction(actionType).getActionsSinceReset())
 			.actionsRemainingToGoal(getActionsRemaining())
 			.actionsPerHour(getActionsHr())
+			.recentActionsPerHour(getRecentActionsHr())
 			.timeTillGoal(getTimeTillLevel(XpGoalTimeType.DAYS))
 			.timeTillGoalHours(getTimeTillLevel(XpGoalTimeType.HOURS))
 			.timeTillGoalShort(getTimeTillLevel(XpGoalTimeType.SHORT))
@@ -31,9 +31,11 @@ import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
 import net.runelite.client.config.Units;
 
-@ConfigGroup("xpTracker")
+@ConfigGroup(XpTrackerConfig.GROUP)
 public interface XpTrackerConfig extends Config
 {
+	String GROUP = "xpTracker";
+
 	@ConfigSection(
 		name = "Overlay",
 		description = "Canvas overlay options",
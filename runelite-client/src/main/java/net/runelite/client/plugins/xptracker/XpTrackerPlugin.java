@@ -28,6 +28,8 @@ package net.runelite.client.plugins.xptracker;
 import com.google.common.annotations.VisibleForTesting;
 import static com.google.common.base.MoreObjects.firstNonNull;
 import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
@@ -59,6 +61,8 @@ import net.runelite.api.widgets.WidgetUtil;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ClientShutdown;
+import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.game.NPCManager;
 import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.plugins.Plugin;
@@ -87,6 +91,8 @@ public class XpTrackerPlugin extends Plugin
 	private static final String MENUOP_ADD_CANVAS_TRACKER = "Add to canvas";
 	private static final String MENUOP_REMOVE_CANVAS_TRACKER = "Remove from canvas";
 
+	private static final String HISTORY_KEY = "history";
+
 	static final List<Skill> COMBAT = ImmutableList.of(
 		Skill.ATTACK,
 		Skill.STRENGTH,
@@ -117,17 +123,24 @@ public class XpTrackerPlugin extends Plugin
 	private OverlayManager overlayManager;
 
 	@Inject
-	private XpClient xpClient;
+	private XpUpdateQueue xpUpdateQueue;
 
 	@Inject
 	private XpState xpState;
 
+	@Inject
+	private ConfigManager configManager;
+
+	@Inject
+	private Gson gson;
+
 	private NavigationButton navButton;
 	@Setter(AccessLevel.PACKAGE)
 	@VisibleForTesting
 	private XpPanel xpPanel;
 	private XpWorldType lastWorldType;
 	private long lastAccount;
+	private String profileKey;
 	private long lastTickMillis = 0;
 	private boolean fetchXp; // fetch lastXp for the online xp tracker
 	private long lastXp = 0;
@@ -163,12 +176,17 @@ public class XpTrackerPlugin extends Plugin
 
 		clientToolbar.addNavigation(navButton);
 
+		xpUpdateQueue.start();
+
 		// Initialize the tracker & last xp if already logged in
 		fetchXp = true;
 		initializeTracker = true;
 		lastAccount = -1L;
 		clientThread.invokeLater(() ->
 		{
+			profileKey = configManager.getRSProfileKey();
+			loadHistories();
+
 			if (client.getGameState() == GameState.LOGGED_IN)
 			{
 				lastAccount = client.getAccountHash();
@@ -181,8 +199,12 @@ public class XpTrackerPlugin extends Plugin
 	protected void shutDown() throws Exception
 	{
 		overlayManager.removeIf(e -> e instanceof XpInfoBoxOverlay);
+		saveHistories();
+		profileKey = null;
 		xpState.reset();
+		xpState.setHistories(new XpHistories());
 		clientToolbar.removeNavigation(navButton);
+		xpUpdateQueue.stop();
 	}
 
 	@Subscribe
@@ -218,6 +240,8 @@ public class XpTrackerPlugin extends Plugin
 		}
 		else if (state == GameState.LOGIN_SCREEN)
 		{
+			saveHistories();
+
 			Player local = client.getLocalPlayer();
 			if (local == null)
 			{
@@ -234,7 +258,7 @@ public class XpTrackerPlugin extends Plugin
 			// Don't submit xptrack unless xp threshold is reached
 			if (Math.abs(totalXp - lastXp) > XP_THRESHOLD)
 			{
-				xpClient.update(username);
+				xpUpdateQueue.enqueue(username);
 				lastXp = totalXp;
 			}
 		}
@@ -371,6 +395,61 @@ public class XpTrackerPlugin extends Plugin
 		xpState.resetOverallPerHour();
 	}
 
+	@Subscribe
+	public void onRuneScapeProfileChanged(RuneScapeProfileChanged event)
+	{
+		// the histories so far belong to the previous profile
+		saveHistories();
+		profileKey = configManager.getRSProfileKey();
+		loadHistories();
+	}
+
+	@Subscribe
+	public void onClientShutdown(ClientShutdown event)
+	{
+		saveHistories();
+	}
+
+	private void loadHistories()
+	{
+		XpHistories histories = null;
+		if (profileKey != null)
+		{
+			String json = configManager.getConfiguration(XpTrackerConfig.GROUP, profileKey, HISTORY_KEY);
+			if (json != null)
+			{
+				try
+				{
+					histories = gson.fromJson(json, XpHistories.class);
+				}
+				catch (JsonSyntaxException ex)
+				{
+					log.warn("Unable to load xp history: {}", json, ex);
+				}
+			}
+		}
+
+		xpState.setHistories(histories != null ? histories : new XpHistories());
+	}
+
+	private void saveHistories()
+	{
+		if (profileKey == null)
+		{
+			return;
+		}
+
+		XpHistories histories = xpState.getHistories().withoutEmpty();
+		if (histories.isEmpty())
+		{
+			configManager.unsetConfiguration(XpTrackerConfig.GROUP, profileKey, HISTORY_KEY);
+		}
+		else
+		{
+			configManager.setConfiguration(XpTrackerConfig.GROUP, profileKey, HISTORY_KEY, gson.toJson(histories));
+		}
+	}
+
 	@Subscribe
 	public void onStatChanged(StatChanged statChanged)
 	{
@@ -546,6 +625,11 @@ public class XpTrackerPlugin extends Plugin
 		return xpState.getSkillSnapshot(skill);
 	}
 
+	int[] getHourlyXp(Skill skill)
+	{
+		return xpState.getHourlyXp(skill);
+	}
+
 	private static @Varp int startGoalVarpForSkill(final Skill skill)
 	{
 		switch (skill)
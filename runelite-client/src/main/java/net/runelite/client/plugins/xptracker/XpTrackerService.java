@@ -53,6 +53,11 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp gained in each of the last 24 hours, oldest first
+	 */
+	int[] getHourlyXp(Skill skill);
+
 	/**
 	 * Get the start goal XP
 	 */
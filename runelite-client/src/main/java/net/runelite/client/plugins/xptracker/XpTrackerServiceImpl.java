@@ -69,6 +69,12 @@ class XpTrackerServiceImpl implements XpTrackerService
 		return plugin.getSkillSnapshot(skill).getXpPerHour();
 	}
 
+	@Override
+	public int[] getHourlyXp(Skill skill)
+	{
+		return plugin.getHourlyXp(skill);
+	}
+
 	@Override
 	public int getStartGoalXp(Skill skill)
 	{
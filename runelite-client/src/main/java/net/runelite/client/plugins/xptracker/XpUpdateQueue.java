@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+/**
+ * Queue of pending xp updates. Updates for the same player are coalesced, the queue is persisted
+ * so that updates made while offline are submitted on a later run, and failed submissions are
+ * retried with exponential backoff. Updates are submitted asynchronously one after another, so
+ * the executor is never blocked on the network.
+ */
+@Slf4j
+@Singleton
+class XpUpdateQueue
+{
+	private static final File QUEUE_FILE = new File(RuneLite.CACHE_DIR, "xpupdates.json");
+	private static final Type QUEUE_TYPE = new TypeToken<List<String>>()
+	{
+	}.getType();
+
+	private static final long FLUSH_DELAY = 5;
+	private static final long RETRY_DELAY = 30;
+	private static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toSeconds(30);
+
+	private final XpClient xpClient;
+	private final ScheduledExecutorService executor;
+	private final Gson gson;
+	private final File file;
+
+	private final Set<String> pending = new LinkedHashSet<>();
+	private final Object saveLock = new Object();
+	private ScheduledFuture<?> flushFuture;
+	// completed when the running flush stops, or null if no flush is running
+	private CompletableFuture<Void> flushing;
+	private int failures;
+	private boolean stopped;
+
+	@Inject
+	XpUpdateQueue(XpClient xpClient, ScheduledExecutorService executor, Gson gson)
+	{
+		this(xpClient, executor, gson, QUEUE_FILE);
+	}
+
+	XpUpdateQueue(XpClient xpClient, ScheduledExecutorService executor, Gson gson, File file)
+	{
+		this.xpClient = xpClient;
+		this.executor = executor;
+		this.gson = gson;
+		this.file = file;
+	}
+
+	/**
+	 * Load updates left over from a previous run and schedule them for submission.
+	 */
+	void start()
+	{
+		synchronized (this)
+		{
+			stopped = false;
+		}
+
+		executor.execute(this::load);
+	}
+
+	/**
+	 * Stop submitting updates. Pending updates remain persisted and are submitted on the next start.
+	 * An update already being submitted is allowed to finish, but is not followed by further updates or retries.
+	 */
+	synchronized void stop()
+	{
+		stopped = true;
+		if (flushFuture != null)
+		{
+			flushFuture.cancel(false);
+			flushFuture = null;
+		}
+	}
+
+	/**
+	 * Queue an xp update for the given player. This is a no-op if an update for the player is already pending.
+	 */
+	void enqueue(String username)
+	{
+		synchronized (this)
+		{
+			if (!pending.add(username))
+			{
+				return;
+			}
+
+			schedule(FLUSH_DELAY);
+		}
+
+		executor.execute(this::save);
+	}
+
+	synchronized List<String> getPending()
+	{
+		return new ArrayList<>(pending);
+	}
+
+	void load()
+	{
+		List<String> usernames;
+		try (FileInputStream in = new FileInputStream(file);
+			FileChannel channel = in.getChannel();
+			InputStreamReader reader = new InputStreamReader(in, StandardCharsets.UTF_8))
+		{
+			channel.lock(0, Long.MAX_VALUE, true);
+			usernames = gson.fromJson(reader, QUEUE_TYPE);
+		}
+		catch (FileNotFoundException ex)
+		{
+			return;
+		}
+		catch (IOException | JsonSyntaxException e)
+		{
+			log.debug("error loading xp update queue", e);
+			return;
+		}
+
+		if (usernames == null || usernames.isEmpty())
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			pending.addAll(usernames);
+			schedule(FLUSH_DELAY);
+		}
+	}
+
+	private void save()
+	{
+		synchronized (saveLock)
+		{
+			Collection<String> usernames = getPending();
+			try (FileOutputStream out = new FileOutputStream(file);
+				FileChannel channel = out.getChannel();
+				OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
+			{
+				channel.lock();
+				gson.toJson(usernames, QUEUE_TYPE, writer);
+			}
+			catch (IOException e)
+			{
+				log.debug("error saving xp update queue", e);
+			}
+		}
+	}
+
+	/**
+	 * Submit all pending updates. On failure, submission stops and is retried after a backoff delay.
+	 *
+	 * @return a future completed once submission stops
+	 */
+	CompletableFuture<Void> flush()
+	{
+		String username;
+		CompletableFuture<Void> future;
+		synchronized (this)
+		{
+			flushFuture = null;
+			if (flushing != null)
+			{
+				return flushing;
+			}
+
+			if (stopped || pending.isEmpty())
+			{
+				return CompletableFuture.completedFuture(null);
+			}
+
+			username = pending.iterator().next();
+			future = flushing = new CompletableFuture<>();
+		}
+
+		submit(username);
+		return future;
+	}
+
+	private void submit(String username)
+	{
+		xpClient.update(username)
+			.whenComplete((v, ex) -> submitted(username, ex));
+	}
+
+	private void submitted(String username, Throwable error)
+	{
+		String next = null;
+		CompletableFuture<Void> future = null;
+		synchronized (this)
+		{
+			if (error == null)
+			{
+				pending.remove(username);
+				failures = 0;
+				if (!stopped && !pending.isEmpty())
+				{
+					// includes updates queued during the flush
+					next = pending.iterator().next();
+				}
+			}
+			else
+			{
+				log.debug("error submitting xp update, {} pending", pending.size(), error);
+
+				long delay = Math.min(MAX_RETRY_DELAY, RETRY_DELAY << Math.min(failures, 10));
+				++failures;
+				schedule(delay);
+			}
+
+			if (next == null)
+			{
+				future = flushing;
+				flushing = null;
+			}
+		}
+
+		if (next != null)
+		{
+			submit(next);
+			return;
+		}
+
+		save();
+		future.complete(null);
+	}
+
+	@VisibleForTesting
+	synchronized boolean isFlushScheduled()
+	{
+		return flushFuture != null;
+	}
+
+	private void schedule(long delay)
+	{
+		if (flushFuture == null && !stopped)
+		{
+			flushFuture = executor.schedule(this::flush, delay, TimeUnit.SECONDS);
+		}
+	}
+}
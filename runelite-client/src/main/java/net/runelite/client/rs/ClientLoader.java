@@ -37,6 +37,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
@@ -46,12 +47,14 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.swing.SwingUtilities;
 import lombok.extern.slf4j.Slf4j;
@@ -164,8 +167,8 @@ public class ClientLoader implements Supplier<Applet>
 				SplashScreen.stage(.40, null, "Loading client");
 				if (updateCheckMode == VANILLA)
 				{
-					// create the classloader for the jar while we hold the lock, and eagerly load and link all classes
-					// in the jar. Otherwise the jar can change on disk and can break future classloads.
+					// create the classloader for the jar while we hold the lock, and read all classes in the jar.
+					// Otherwise the jar can change on disk and can break future classloads.
 					classLoader = createJarClassLoader(VANILLA_CACHE);
 				}
 				else
@@ -473,67 +476,42 @@ public class ClientLoader implements Supplier<Applet>
 		}
 	}
 
-	private ClassLoader createJarClassLoader(File jar) throws IOException, ClassNotFoundException
+	private ClassLoader createJarClassLoader(File jar) throws IOException
 	{
+		long start = System.currentTimeMillis();
 		try (JarFile jarFile = new JarFile(jar))
 		{
-			// We explicitly use the platform class loader so that the patched classes do not get used
-			// when loading vanilla
-			ClassLoader classLoader = new ClassLoader(ClassLoader.getPlatformClassLoader())
+			List<JarEntry> entries = jarFile.stream()
+				.filter(je -> je.getName().endsWith(".class"))
+				.collect(Collectors.toList());
+
+			// read all of the classes up front, so that the jar can be closed and can't change underneath the
+			// classloader. Inflating and digesting the entries is most of the work, and is done concurrently.
+			Map<String, byte[]> classes = new ConcurrentHashMap<>(entries.size());
+			try
 			{
-				@Override
-				protected Class<?> findClass(String name) throws ClassNotFoundException
+				entries.parallelStream().forEach(je ->
 				{
-					String entryName = name.replace('.', '/').concat(".class");
-					JarEntry jarEntry;
-
-					try
-					{
-						jarEntry = jarFile.getJarEntry(entryName);
-					}
-					catch (IllegalStateException ex)
+					String name = je.getName();
+					try (InputStream in = jarFile.getInputStream(je))
 					{
-						throw new ClassNotFoundException(name, ex);
-					}
-
-					if (jarEntry == null)
-					{
-						throw new ClassNotFoundException(name);
-					}
-
-					try
-					{
-						InputStream inputStream = jarFile.getInputStream(jarEntry);
-						if (inputStream == null)
-						{
-							throw new ClassNotFoundException(name);
-						}
-
-						byte[] bytes = ByteStreams.toByteArray(inputStream);
-						return defineClass(name, bytes, 0, bytes.length);
+						classes.put(name.substring(0, name.length() - 6).replace('/', '.'), ByteStreams.toByteArray(in));
 					}
 					catch (IOException e)
 					{
-						throw new ClassNotFoundException(null, e);
+						throw new UncheckedIOException(e);
 					}
-				}
-			};
-
-			// load all of the classes in this jar; after the jar is closed the classloader
-			// will no longer be able to look up classes
-			Enumeration<JarEntry> entries = jarFile.entries();
-			while (entries.hasMoreElements())
+				});
+			}
+			catch (UncheckedIOException e)
 			{
-				JarEntry jarEntry = entries.nextElement();
-				String name = jarEntry.getName();
-				if (name.endsWith(".class"))
-				{
-					name = name.substring(0, name.length() - 6);
-					classLoader.loadClass(name.replace('/', '.'));
-				}
+				throw e.getCause();
 			}
 
-			return classLoader;
+			// the certificates were already checked by updateVanilla, and the cache lock is still held so the
+			// jar can't have changed since
+			log.info("Read {} vanilla classes in {}ms", classes.size(), System.currentTimeMillis() - start);
+			return new VanillaClassLoader(classes);
 		}
 	}
 
@@ -73,15 +73,52 @@ public class ModelOutlineRenderer
 		private final double alphaMultiply;
 	}
 
+	/**
+	 * Models sharing an outline style, rasterized into a single bitset covering the whole viewport.
+	 */
+	private static class OutlineBatch
+	{
+		private int outlineWidth;
+		private Color color;
+		private int feather;
+		private boolean active;
+
+		// Whether every bit of the visited bitset is cleared, so it can be reused without a full reset
+		private boolean clean;
+		private int[] visited = new int[0];
+		private int croppedX1;
+		private int croppedY1;
+		private int croppedWidth;
+		private int croppedHeight;
+
+		// Union of the screen bounds of every visible model in the batch
+		private int boundsX1;
+		private int boundsY1;
+		private int boundsX2;
+		private int boundsY2;
+
+		private boolean matches(int outlineWidth, Color color, int feather)
+		{
+			return this.outlineWidth == outlineWidth && this.feather == feather && this.color.getRGB() == color.getRGB();
+		}
+	}
+
 	private static final int MAX_OUTLINE_WIDTH = 50;
 	private static final int MAX_FEATHER = 4;
 	private static final int DIRECT_WRITE_OUTLINE_WIDTH_THRESHOLD = 10;
+	private static final int MAX_POOLED_BATCHES = 4;
 
 	private final Client client;
 
 	// Vertex positions projected on the screen.
-	private final int[] projectedVerticesX = new int[6500];
-	private final int[] projectedVerticesY = new int[6500];
+	private int[] projectedVerticesX = new int[6500];
+	private int[] projectedVerticesY = new int[6500];
+
+	// Screen bounds of the most recently projected model
+	private int boundsX1;
+	private int boundsY1;
+	private int boundsX2;
+	private int boundsY2;
 
 	// Window boundaries for the ingame world
 	private int clipX1;
@@ -97,6 +134,13 @@ public class ModelOutlineRenderer
 	private int croppedWidth;
 	private int croppedHeight;
 
+	// Area within the cropped area which is scanned for the edges of the visited pixels.
+	// The x boundaries are aligned to the 32-bit segments of the bitset.
+	private int scanX1;
+	private int scanY1;
+	private int scanX2;
+	private int scanY2;
+
 	// Bitset with pixel positions that would be rendered to within the cropped area by the model.
 	private int[] visited = new int[0];
 
@@ -118,6 +162,10 @@ public class ModelOutlineRenderer
 	// These are calculated once upon first usage and then stored here to skip reevaluation.
 	private PixelDistanceDelta[][][] precomputedDistanceDeltas = new PixelDistanceDelta[0][][];
 
+	// Outlines drawn between beginBatch() and endBatch(), one per distinct outline style.
+	private final List<OutlineBatch> batches = new ArrayList<>();
+	private int batchDepth;
+
 	@Inject
 	private ModelOutlineRenderer(Client client)
 	{
@@ -514,7 +562,8 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
+	 * Translates the vertices 3D points to the screen canvas 2D points
+	 * and stores the screen bounds of the projected vertices.
 	 *
 	 * @param localX The local x position of the vertices.
 	 * @param localY The local y position of the vertices.
@@ -525,6 +574,12 @@ public class ModelOutlineRenderer
 	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
 	{
 		final int vertexCount = model.getVerticesCount();
+		if (projectedVerticesX.length < vertexCount)
+		{
+			projectedVerticesX = new int[nextPowerOfTwo(vertexCount)];
+			projectedVerticesY = new int[nextPowerOfTwo(vertexCount)];
+		}
+
 		Perspective.modelToCanvas(client,
 			vertexCount,
 			localX, localY, localZ,
@@ -534,6 +589,11 @@ public class ModelOutlineRenderer
 
 		boolean anyVisible = false;
 
+		boundsX1 = Integer.MAX_VALUE;
+		boundsX2 = Integer.MIN_VALUE;
+		boundsY1 = Integer.MAX_VALUE;
+		boundsY2 = Integer.MIN_VALUE;
+
 		for (int i = 0; i < vertexCount; i++)
 		{
 			int x = projectedVerticesX[i];
@@ -545,10 +605,10 @@ public class ModelOutlineRenderer
 				boolean visibleY = y >= clipY1 && y < clipY2;
 				anyVisible |= visibleX && visibleY;
 
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
+				boundsX1 = Math.min(boundsX1, x);
+				boundsX2 = Math.max(boundsX2, x + 1);
+				boundsY1 = Math.min(boundsY1, y);
+				boundsY2 = Math.max(boundsY2, y + 1);
 			}
 			else
 			{
@@ -640,10 +700,10 @@ public class ModelOutlineRenderer
 		int colorRGB = color.getRGB();
 
 		// Up and down
-		for (int x = 0; x < croppedWidth; x += 32)
+		for (int x = scanX1; x < scanX2; x += 32)
 		{
-			int v1 = visited[x >> 5];
-			for (int y = 1; y < croppedHeight; y++)
+			int v1 = visited[(scanY1 * croppedWidth + x) >> 5];
+			for (int y = scanY1 + 1; y < scanY2; y++)
 			{
 				int v2 = visited[(y * croppedWidth + x) >> 5];
 				if (v1 != v2)
@@ -704,11 +764,11 @@ public class ModelOutlineRenderer
 		}
 
 		// Left and right
-		for (int y = 0; y < croppedHeight; y++)
+		for (int y = scanY1; y < scanY2; y++)
 		{
 			int rowPosition = y * croppedWidth;
 			int lastV = 0;
-			for (int x = 0; x < croppedWidth; x += 32)
+			for (int x = scanX1; x < scanX2; x += 32)
 			{
 				int v = visited[(rowPosition + x) >> 5];
 
@@ -769,7 +829,7 @@ public class ModelOutlineRenderer
 				}
 
 				// Test adjacent pixels in different 32-bit segments
-				if ((lastV >>> 31) != (v & 1) && x > 0)
+				if ((lastV >>> 31) != (v & 1) && x > scanX1)
 				{
 					if (directWrite)
 					{
@@ -885,6 +945,168 @@ public class ModelOutlineRenderer
 		}
 	}
 
+	/**
+	 * Starts batching outlines. Until the matching {@link #endBatch()}, models outlined with the
+	 * same width, color and feather are rasterized into one shared bitset, and their outlines are
+	 * drawn together by a single pass over the area covering all of them when the batch ends.
+	 * Models of the same style which overlap share an outline around their combined shape.
+	 * <p>
+	 * Batches may be nested, in which case the outlines are drawn when the outermost batch ends.
+	 */
+	public void beginBatch()
+	{
+		batchDepth++;
+	}
+
+	/**
+	 * Ends a batch started with {@link #beginBatch()}, drawing the outlines queued since.
+	 */
+	public void endBatch()
+	{
+		if (batchDepth == 0 || --batchDepth > 0)
+		{
+			return;
+		}
+
+		final int[] modelVisited = visited;
+		try
+		{
+			for (OutlineBatch batch : batches)
+			{
+				if (batch.active && batch.boundsX1 < batch.boundsX2)
+				{
+					visited = batch.visited;
+					croppedX1 = batch.croppedX1;
+					croppedY1 = batch.croppedY1;
+					croppedWidth = batch.croppedWidth;
+					croppedHeight = batch.croppedHeight;
+
+					// Only scan the area around the models, leaving a one pixel border so edges
+					// on all sides are found
+					scanX1 = Math.max(batch.boundsX1 - 1 - croppedX1, 0) & ~31;
+					scanX2 = Math.min((batch.boundsX2 + 1 - croppedX1 + 31) & ~31, croppedWidth);
+					scanY1 = Math.max(batch.boundsY1 - 1 - croppedY1, 0);
+					scanY2 = Math.min(batch.boundsY2 + 1 - croppedY1, croppedHeight);
+
+					drawVisitedOutline(batch.outlineWidth, batch.color, batch.feather);
+
+					// Drawing the outline also marks the pixels of the outline visited
+					int rowStart = Math.max(batch.boundsY1 - batch.outlineWidth - croppedY1, 0);
+					int rowEnd = Math.min(batch.boundsY2 + batch.outlineWidth - croppedY1, croppedHeight);
+					if (rowStart < rowEnd)
+					{
+						Arrays.fill(visited, (rowStart * croppedWidth) >>> 5, (rowEnd * croppedWidth) >>> 5, 0);
+					}
+				}
+
+				batch.clean = true;
+				batch.active = false;
+			}
+		}
+		finally
+		{
+			visited = modelVisited;
+		}
+
+		while (batches.size() > MAX_POOLED_BATCHES)
+		{
+			batches.remove(batches.size() - 1);
+		}
+	}
+
+	/**
+	 * Gets the active batch for an outline style, starting a new one if there is none.
+	 */
+	private OutlineBatch getBatch(int outlineWidth, Color color, int feather)
+	{
+		OutlineBatch batch = null;
+		for (OutlineBatch b : batches)
+		{
+			if (b.active && b.matches(outlineWidth, color, feather))
+			{
+				return b;
+			}
+			if (!b.active && batch == null)
+			{
+				batch = b;
+			}
+		}
+
+		if (batch == null)
+		{
+			batch = new OutlineBatch();
+			batches.add(batch);
+		}
+
+		batch.outlineWidth = outlineWidth;
+		batch.color = color;
+		batch.feather = feather;
+		batch.active = true;
+
+		// The outlines of a batch can be anywhere in the viewport
+		int width = (clipX2 - clipX1 + 31) & ~31;
+		int height = clipY2 - clipY1;
+		if (batch.croppedWidth != width || batch.croppedHeight != height)
+		{
+			batch.clean = false;
+		}
+		batch.croppedX1 = clipX1;
+		batch.croppedY1 = clipY1;
+		batch.croppedWidth = width;
+		batch.croppedHeight = height;
+		batch.boundsX1 = Integer.MAX_VALUE;
+		batch.boundsX2 = Integer.MIN_VALUE;
+		batch.boundsY1 = Integer.MAX_VALUE;
+		batch.boundsY2 = Integer.MIN_VALUE;
+
+		int size = (width * height) >>> 5;
+		if (batch.visited.length < size)
+		{
+			batch.visited = new int[nextPowerOfTwo(size)];
+		}
+		else if (!batch.clean)
+		{
+			Arrays.fill(batch.visited, 0, size, 0);
+		}
+		batch.clean = false;
+
+		return batch;
+	}
+
+	/**
+	 * Rasterizes a model into the bitset of the batch for its outline style.
+	 */
+	private void batchModelOutline(Model model,
+		int localX, int localY, int localZ, int orientation,
+		int outlineWidth, Color color, int feather)
+	{
+		if (!projectVertices(model, localX, localY, localZ, orientation))
+		{
+			return;
+		}
+
+		OutlineBatch batch = getBatch(outlineWidth, color, feather);
+		batch.boundsX1 = Math.min(batch.boundsX1, boundsX1);
+		batch.boundsX2 = Math.max(batch.boundsX2, boundsX2);
+		batch.boundsY1 = Math.min(batch.boundsY1, boundsY1);
+		batch.boundsY2 = Math.max(batch.boundsY2, boundsY2);
+
+		final int[] modelVisited = visited;
+		visited = batch.visited;
+		croppedX1 = batch.croppedX1;
+		croppedY1 = batch.croppedY1;
+		croppedWidth = batch.croppedWidth;
+		croppedHeight = batch.croppedHeight;
+		try
+		{
+			simulateModelRasterizationForOutline(model);
+		}
+		finally
+		{
+			visited = modelVisited;
+		}
+	}
+
 	/**
 	 * Draws an outline around a model to an image
 	 *
@@ -918,16 +1140,17 @@ public class ModelOutlineRenderer
 			feather = MAX_FEATHER;
 		}
 
-		croppedX1 = Integer.MAX_VALUE;
-		croppedX2 = Integer.MIN_VALUE;
-		croppedY1 = Integer.MAX_VALUE;
-		croppedY2 = Integer.MIN_VALUE;
-
 		clipX1 = client.getViewportXOffset();
 		clipY1 = client.getViewportYOffset();
 		clipX2 = client.getViewportWidth() + clipX1;
 		clipY2 = client.getViewportHeight() + clipY1;
 
+		if (batchDepth > 0)
+		{
+			batchModelOutline(model, localX, localY, localZ, orientation, outlineWidth, color, feather);
+			return;
+		}
+
 		if (!projectVertices(model, localX, localY, localZ, orientation))
 		{
 			// No vertex of the model is visible on the screen, so we can
@@ -935,18 +1158,35 @@ public class ModelOutlineRenderer
 			return;
 		}
 
-		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
-		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
+		croppedX1 = Math.max(boundsX1 - outlineWidth, clipX1);
+		croppedX2 = Math.min(boundsX2 + outlineWidth, clipX2);
 		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
-		croppedY1 = Math.max(croppedY1 - outlineWidth, clipY1);
-		croppedY2 = Math.min(croppedY2 + outlineWidth, clipY2);
+		croppedY1 = Math.max(boundsY1 - outlineWidth, clipY1);
+		croppedY2 = Math.min(boundsY2 + outlineWidth, clipY2);
 		croppedWidth = croppedX2 - croppedX1;
 		croppedHeight = croppedY2 - croppedY1;
 
+		scanX1 = 0;
+		scanY1 = 0;
+		scanX2 = croppedWidth;
+		scanY2 = croppedHeight;
+
 		resetVisited(croppedWidth * croppedHeight);
 
 		simulateModelRasterizationForOutline(model);
 
+		drawVisitedOutline(outlineWidth, color, feather);
+	}
+
+	/**
+	 * Draws an outline around the visited pixels within the scan area to the client image buffer.
+	 *
+	 * @param outlineWidth The width of the outline
+	 * @param color The color of the outline
+	 * @param feather The feather of the outline
+	 */
+	private void drawVisitedOutline(int outlineWidth, Color color, int feather)
+	{
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
 		// and instead raster pixels directly. This only looks right for opaque
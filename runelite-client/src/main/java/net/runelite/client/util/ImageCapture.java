@@ -26,6 +26,7 @@
 package net.runelite.client.util;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Insets;
@@ -38,10 +39,16 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import javax.imageio.ImageIO;
 import javax.inject.Inject;
@@ -66,6 +73,13 @@ public class ImageCapture
 {
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
 
+	private static final int ENCODER_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+	/**
+	 * Maximum number of screenshots waiting to be encoded. Past this screenshots are encoded on the
+	 * calling thread, which holds up further screenshots instead of buffering an unbounded number of frames.
+	 */
+	private static final int MAX_QUEUED_SCREENSHOTS = 4;
+
 	private final Client client;
 	private final Notifier notifier;
 	private final ClientUI clientUi;
@@ -73,6 +87,25 @@ public class ImageCapture
 	private final ScheduledExecutorService executor;
 	private final EventBus eventBus;
 
+	// PNG encoding of a full size frame takes long enough that it should neither block
+	// the shared executor nor force a burst of screenshots to be written one at a time
+	private final ScheduledExecutorService encodeExecutor = createEncodeExecutor();
+	private final Semaphore encodePermits = new Semaphore(ENCODER_THREADS + MAX_QUEUED_SCREENSHOTS);
+	// screenshot files which are still being encoded, so that they are not given the same name
+	private final Set<File> pendingFiles = new HashSet<>();
+
+	private static ScheduledExecutorService createEncodeExecutor()
+	{
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(ENCODER_THREADS,
+			new ThreadFactoryBuilder()
+				.setNameFormat("screenshot-encoder-%d")
+				.setDaemon(true)
+				.build());
+		executor.setKeepAliveTime(30, TimeUnit.SECONDS);
+		executor.allowCoreThreadTimeOut(true);
+		return new ExecutorServiceExceptionLogger(executor);
+	}
+
 	/**
 	 * Take a screenshot and save it
 	 * @param subDir the subdirectory to save the screenshot in
@@ -211,31 +244,82 @@ public class ImageCapture
 
 		fileName += (fileName.isEmpty() ? "" : " ") + format(new Date());
 
-		File screenshotFile = new File(playerFolder, fileName + ".png");
 		// To make sure that screenshots don't get overwritten, check if file exists,
-		// and if it does create file with same name and suffix.
-		int i = 1;
-		while (screenshotFile.exists())
+		// and if it does create file with same name and suffix. Files still being
+		// encoded are reserved so that they can't be given the same name.
+		File screenshotFile;
+		synchronized (pendingFiles)
 		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			screenshotFile = new File(playerFolder, fileName + ".png");
+			int i = 1;
+			while (screenshotFile.exists() || pendingFiles.contains(screenshotFile))
+			{
+				screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			}
+			pendingFiles.add(screenshotFile);
 		}
 
+		if (saveToClipboard)
+		{
+			Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+			TransferableBufferedImage transferableBufferedImage = new TransferableBufferedImage(screenshot);
+			clipboard.setContents(transferableBufferedImage, null);
+		}
+
+		final File file = screenshotFile;
+		if (!encodePermits.tryAcquire())
+		{
+			// the encoders are backed up, so hold up further screenshots instead of buffering more frames
+			writeScreenshot(screenshot, file, notify, saveToClipboard);
+			return;
+		}
+
+		encodeExecutor.execute(() ->
+		{
+			try
+			{
+				writeScreenshot(screenshot, file, notify, saveToClipboard);
+			}
+			finally
+			{
+				encodePermits.release();
+			}
+		});
+	}
+
+	private void writeScreenshot(BufferedImage screenshot, File screenshotFile, boolean notify, boolean savedToClipboard)
+	{
+		// encode to a temporary file and move it into place once it is complete, so that a failed
+		// or interrupted encode does not leave an empty or truncated png in the screenshot folder
+		File tmpFile = null;
+		boolean written = false;
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			tmpFile = File.createTempFile("screenshot", ".tmp", screenshotFile.getParentFile());
+			ImageIO.write(screenshot, "PNG", tmpFile);
+			Files.move(tmpFile.toPath(), screenshotFile.toPath());
+			written = true;
 		}
 		catch (IOException ex)
 		{
 			log.error("error writing screenshot", ex);
 			return;
 		}
-
-		if (saveToClipboard)
+		finally
 		{
-			Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-			TransferableBufferedImage transferableBufferedImage = new TransferableBufferedImage(screenshot);
-			clipboard.setContents(transferableBufferedImage, null);
+			if (!written && tmpFile != null)
+			{
+				tmpFile.delete();
+			}
 
+			synchronized (pendingFiles)
+			{
+				pendingFiles.remove(screenshotFile);
+			}
+		}
+
+		if (savedToClipboard)
+		{
 			if (notify)
 			{
 				notifier.notify("A screenshot was saved and inserted into your clipboard!", TrayIcon.MessageType.INFO);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Matches text against a set of literal keywords in a single pass over the text, regardless of the number of
+ * keywords, using an Aho-Corasick automaton. Matching is ASCII case insensitive, the same as
+ * {@link java.util.regex.Pattern#CASE_INSENSITIVE}.
+ */
+public final class KeywordMatcher
+{
+	@FunctionalInterface
+	public interface MatchCallback
+	{
+		/**
+		 * Called for each position in the text where a keyword ends
+		 *
+		 * @param start start index of the longest keyword ending at {@code end}
+		 * @param end end index of the keyword, exclusive
+		 */
+		void match(int start, int end);
+	}
+
+	private static final KeywordMatcher EMPTY = new KeywordMatcher(new int[]{0, 0}, new char[0], new int[0], new int[]{0}, new int[]{0});
+
+	// transitions of node n are transitionChars/transitionTargets[transitionStart[n] .. transitionStart[n + 1]),
+	// sorted by char
+	private final int[] transitionStart;
+	private final char[] transitionChars;
+	private final int[] transitionTargets;
+	private final int[] failure;
+	// length of the longest keyword which ends at the node, or 0
+	private final int[] matchLength;
+
+	private KeywordMatcher(int[] transitionStart, char[] transitionChars, int[] transitionTargets, int[] failure, int[] matchLength)
+	{
+		this.transitionStart = transitionStart;
+		this.transitionChars = transitionChars;
+		this.transitionTargets = transitionTargets;
+		this.failure = failure;
+		this.matchLength = matchLength;
+	}
+
+	/**
+	 * Compile a set of keywords. Empty keywords are ignored.
+	 *
+	 * @param keywords the keywords
+	 * @return a matcher for the keywords
+	 */
+	public static KeywordMatcher compile(Collection<String> keywords)
+	{
+		// build the trie
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<Integer> lengths = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		lengths.add(0);
+
+		for (String keyword : keywords)
+		{
+			if (keyword.isEmpty())
+			{
+				continue;
+			}
+
+			int node = 0;
+			for (int i = 0; i < keyword.length(); ++i)
+			{
+				char c = fold(keyword.charAt(i));
+				Integer next = trie.get(node).get(c);
+				if (next == null)
+				{
+					next = trie.size();
+					trie.add(new TreeMap<>());
+					lengths.add(0);
+					trie.get(node).put(c, next);
+				}
+				node = next;
+			}
+			lengths.set(node, keyword.length());
+		}
+
+		int nodes = trie.size();
+		if (nodes == 1)
+		{
+			return EMPTY;
+		}
+
+		int[] transitionStart = new int[nodes + 1];
+		char[] transitionChars = new char[nodes - 1];
+		int[] transitionTargets = new int[nodes - 1];
+		int[] matchLength = new int[nodes];
+		int edge = 0;
+		for (int node = 0; node < nodes; ++node)
+		{
+			transitionStart[node] = edge;
+			for (var entry : trie.get(node).entrySet())
+			{
+				transitionChars[edge] = entry.getKey();
+				transitionTargets[edge] = entry.getValue();
+				++edge;
+			}
+			matchLength[node] = lengths.get(node);
+		}
+		transitionStart[nodes] = edge;
+
+		KeywordMatcher matcher = new KeywordMatcher(transitionStart, transitionChars, transitionTargets, new int[nodes], matchLength);
+		matcher.buildFailureLinks();
+		return matcher;
+	}
+
+	private void buildFailureLinks()
+	{
+		// breadth first, so that the failure link of a node's parent is always known
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int e = transitionStart[0]; e < transitionStart[1]; ++e)
+		{
+			failure[transitionTargets[e]] = 0;
+			queue.add(transitionTargets[e]);
+		}
+
+		while (!queue.isEmpty())
+		{
+			int node = queue.poll();
+			for (int e = transitionStart[node]; e < transitionStart[node + 1]; ++e)
+			{
+				char c = transitionChars[e];
+				int child = transitionTargets[e];
+
+				int f = failure[node];
+				int next;
+				while ((next = transition(f, c)) == -1 && f != 0)
+				{
+					f = failure[f];
+				}
+				failure[child] = next == -1 ? 0 : next;
+				// a keyword which is a suffix of this one ends here too
+				matchLength[child] = Math.max(matchLength[child], matchLength[failure[child]]);
+
+				queue.add(child);
+			}
+		}
+	}
+
+	private int transition(int node, char c)
+	{
+		int idx = Arrays.binarySearch(transitionChars, transitionStart[node], transitionStart[node + 1], c);
+		return idx >= 0 ? transitionTargets[idx] : -1;
+	}
+
+	private int step(int node, char c)
+	{
+		for (;;)
+		{
+			int next = transition(node, c);
+			if (next != -1)
+			{
+				return next;
+			}
+			if (node == 0)
+			{
+				return 0;
+			}
+			node = failure[node];
+		}
+	}
+
+	/**
+	 * Check if the matcher has no keywords
+	 */
+	public boolean isEmpty()
+	{
+		return this == EMPTY;
+	}
+
+	/**
+	 * Test if any of the keywords occur in the text
+	 *
+	 * @param text text to search
+	 * @return true if a keyword was found
+	 */
+	public boolean containsAny(CharSequence text)
+	{
+		int node = 0;
+		for (int i = 0, len = text.length(); i < len; ++i)
+		{
+			node = step(node, fold(text.charAt(i)));
+			if (matchLength[node] > 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find all keywords in the text. Overlapping keywords are all reported, but for each end position
+	 * only the longest keyword ending there is reported.
+	 *
+	 * @param text text to search
+	 * @param callback called for each match, in order of end position
+	 */
+	public void forEachMatch(CharSequence text, MatchCallback callback)
+	{
+		int node = 0;
+		for (int i = 0, len = text.length(); i < len; ++i)
+		{
+			node = step(node, fold(text.charAt(i)));
+			int length = matchLength[node];
+			if (length > 0)
+			{
+				callback.match(i + 1 - length, i + 1);
+			}
+		}
+	}
+
+	private static char fold(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+}
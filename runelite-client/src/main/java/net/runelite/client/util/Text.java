@@ -81,7 +81,84 @@ public class Text
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		if (str.indexOf('<') == -1)
+		{
+			return str;
+		}
+
+		return removeTags(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * Removes all tags from the given string, appending the result to a builder.
+	 * This is the same as appending {@link #removeTags(String)}, without creating the intermediate string.
+	 *
+	 * @param str The string to remove tags from.
+	 * @param out The builder to append to.
+	 * @return The builder
+	 */
+	public static StringBuilder removeTags(String str, StringBuilder out)
+	{
+		return appendWithoutTags(str, out, false);
+	}
+
+	/**
+	 * Removes all tags from the given string and lowercases it in one pass, the same as
+	 * {@code removeTags(str).toLowerCase()} except that lowercasing does not depend on the default locale.
+	 *
+	 * @param str The string to normalize.
+	 * @return The normalized string, which is the given string if it has no tags or uppercase characters.
+	 */
+	public static String removeTagsToLowerCase(String str)
+	{
+		int i = 0;
+		for (int len = str.length(); i < len; ++i)
+		{
+			char c = str.charAt(i);
+			if (c == '<' || Character.toLowerCase(c) != c)
+			{
+				break;
+			}
+		}
+
+		if (i == str.length())
+		{
+			return str;
+		}
+
+		return appendWithoutTags(str, new StringBuilder(str.length()), true).toString();
+	}
+
+	private static StringBuilder appendWithoutTags(String str, StringBuilder out, boolean lowerCase)
+	{
+		int pos = 0;
+		final int len = str.length();
+		while (pos < len)
+		{
+			int open = str.indexOf('<', pos);
+			int close = open == -1 ? -1 : str.indexOf('>', open + 1);
+			// an unclosed tag is kept, and there can be no complete tags after it
+			int end = close == -1 ? len : open;
+
+			if (lowerCase)
+			{
+				for (int i = pos; i < end; ++i)
+				{
+					out.append(Character.toLowerCase(str.charAt(i)));
+				}
+			}
+			else
+			{
+				out.append(str, pos, end);
+			}
+
+			if (close == -1)
+			{
+				break;
+			}
+			pos = close + 1;
+		}
+		return out;
 	}
 
 	/**
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+/**
+ * A compiled wildcard pattern, where {@code *} matches any sequence of characters.
+ * Matching is case insensitive and must cover the whole text, the same as {@link WildcardMatcher#matches(String, String)}.
+ */
+public final class WildcardPattern
+{
+	// the case folded parts of the pattern between the wildcards
+	private final String[] segments;
+	private final int minLength;
+
+	private WildcardPattern(String[] segments)
+	{
+		this.segments = segments;
+		int minLength = 0;
+		for (String segment : segments)
+		{
+			minLength += segment.length();
+		}
+		this.minLength = minLength;
+	}
+
+	public static WildcardPattern compile(String pattern)
+	{
+		return new WildcardPattern(fold(pattern).split("\\*", -1));
+	}
+
+	/**
+	 * @return true if the pattern has no wildcards
+	 */
+	public boolean isLiteral()
+	{
+		return segments.length == 1;
+	}
+
+	public boolean matches(String text)
+	{
+		return matchesFolded(fold(text));
+	}
+
+	/**
+	 * Match text which has already been case folded with {@link #fold(String)}.
+	 */
+	boolean matchesFolded(String text)
+	{
+		if (segments.length == 1)
+		{
+			return text.equals(segments[0]);
+		}
+
+		if (text.length() < minLength)
+		{
+			return false;
+		}
+
+		final String first = segments[0];
+		final String last = segments[segments.length - 1];
+		if (!text.startsWith(first) || !text.endsWith(last))
+		{
+			return false;
+		}
+
+		// the leftmost match of each middle segment leaves the most room for the ones after it
+		int pos = first.length();
+		final int end = text.length() - last.length();
+		for (int i = 1; i < segments.length - 1; ++i)
+		{
+			final String segment = segments[i];
+			if (segment.isEmpty())
+			{
+				continue;
+			}
+
+			int idx = text.indexOf(segment, pos);
+			if (idx == -1 || idx + segment.length() > end)
+			{
+				return false;
+			}
+			pos = idx + segment.length();
+		}
+		return true;
+	}
+
+	/**
+	 * Lowercases the ASCII letters of a string, matching the case insensitivity of {@code (?i)} regexes.
+	 */
+	static String fold(String s)
+	{
+		int i = 0;
+		final int len = s.length();
+		while (i < len && !isUpper(s.charAt(i)))
+		{
+			++i;
+		}
+
+		if (i == len)
+		{
+			return s;
+		}
+
+		final char[] chars = s.toCharArray();
+		for (; i < len; ++i)
+		{
+			if (isUpper(chars[i]))
+			{
+				chars[i] += 'a' - 'A';
+			}
+		}
+		return new String(chars);
+	}
+
+	private static boolean isUpper(char c)
+	{
+		return c >= 'A' && c <= 'Z';
+	}
+}
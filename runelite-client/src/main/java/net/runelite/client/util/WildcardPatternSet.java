@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A set of wildcard patterns compiled once, for matching text against all of them.
+ * Patterns without wildcards are matched with a single hash lookup.
+ *
+ * @see WildcardPattern
+ */
+public final class WildcardPatternSet
+{
+	public static final WildcardPatternSet EMPTY = new WildcardPatternSet(new HashSet<>(), new WildcardPattern[0]);
+
+	private final Set<String> literals;
+	private final WildcardPattern[] wildcards;
+
+	private WildcardPatternSet(Set<String> literals, WildcardPattern[] wildcards)
+	{
+		this.literals = literals;
+		this.wildcards = wildcards;
+	}
+
+	public static WildcardPatternSet compile(Collection<String> patterns)
+	{
+		Set<String> literals = new HashSet<>();
+		List<WildcardPattern> wildcards = new ArrayList<>();
+		for (String pattern : patterns)
+		{
+			WildcardPattern compiled = WildcardPattern.compile(pattern);
+			if (compiled.isLiteral())
+			{
+				literals.add(WildcardPattern.fold(pattern));
+			}
+			else
+			{
+				wildcards.add(compiled);
+			}
+		}
+		return new WildcardPatternSet(literals, wildcards.toArray(new WildcardPattern[0]));
+	}
+
+	/**
+	 * @return true if the text matches any of the patterns
+	 */
+	public boolean matches(String text)
+	{
+		final String folded = WildcardPattern.fold(text);
+		if (literals.contains(folded))
+		{
+			return true;
+		}
+
+		return matchesFoldedWildcard(folded);
+	}
+
+	/**
+	 * @return true if the text matches any of the patterns containing a wildcard
+	 */
+	public boolean matchesWildcard(String text)
+	{
+		return matchesFoldedWildcard(WildcardPattern.fold(text));
+	}
+
+	private boolean matchesFoldedWildcard(String folded)
+	{
+		for (WildcardPattern wildcard : wildcards)
+		{
+			if (wildcard.matchesFolded(folded))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChatMessageClassifierTest
+{
+	private EventBus eventBus;
+	private ChatMessageClassifier chatMessageClassifier;
+
+	@Before
+	public void before()
+	{
+		eventBus = new EventBus();
+		chatMessageClassifier = new ChatMessageClassifier(eventBus);
+	}
+
+	private void post(ChatMessageType type, String message)
+	{
+		eventBus.post(new ChatMessage(null, type, "", message, null, 0));
+	}
+
+	@Test
+	public void testPrefix()
+	{
+		List<String> matched = new ArrayList<>();
+		ChatMessagePattern pattern = chatMessageClassifier.registerPrefix("Your ",
+			Pattern.compile("^Your (.+) kill count is: (\\d+)"),
+			(chatMessage, matcher) -> matched.add(matcher.group(1) + "=" + matcher.group(2)),
+			ChatMessageType.GAMEMESSAGE);
+
+		post(ChatMessageType.GAMEMESSAGE, "Your Zulrah kill count is: 12.");
+		post(ChatMessageType.PUBLICCHAT, "Your Vorkath kill count is: 5.");
+		post(ChatMessageType.GAMEMESSAGE, "Your inventory is too full.");
+		post(ChatMessageType.GAMEMESSAGE, "Well done! Your Kraken kill count is: 3.");
+
+		assertEquals(List.of("Zulrah=12"), matched);
+		assertEquals(2, pattern.getChecks());
+		assertEquals(1, pattern.getHits());
+	}
+
+	@Test
+	public void testKeyword()
+	{
+		List<String> matched = new ArrayList<>();
+		ChatMessagePattern keyword = chatMessageClassifier.registerKeyword("decayed", null,
+			(chatMessage, matcher) ->
+			{
+				assertNull(matcher);
+				matched.add(chatMessage.getMessage());
+			},
+			ChatMessageType.GAMEMESSAGE, ChatMessageType.SPAM);
+		ChatMessagePattern other = chatMessageClassifier.registerKeyword("shield", Pattern.compile("(\\w+) portal shield"),
+			(chatMessage, matcher) -> matched.add(matcher.group(1)),
+			ChatMessageType.GAMEMESSAGE);
+
+		post(ChatMessageType.SPAM, "Your pouch has decayed through use.");
+		post(ChatMessageType.GAMEMESSAGE, "The purple, western portal shield has dropped! Your pouch has decayed.");
+		post(ChatMessageType.GAMEMESSAGE, "You raise your shield.");
+
+		assertEquals(List.of("Your pouch has decayed through use.", "The purple, western portal shield has dropped! Your pouch has decayed.", "western"), matched);
+		assertEquals(2, keyword.getHits());
+		assertEquals(2, other.getChecks());
+		assertEquals(1, other.getHits());
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		List<String> matched = new ArrayList<>();
+		ChatMessagePattern pattern = chatMessageClassifier.registerPrefix("Congratulations", null,
+			(chatMessage, matcher) -> matched.add(chatMessage.getMessage()),
+			ChatMessageType.GAMEMESSAGE);
+
+		post(ChatMessageType.GAMEMESSAGE, "Congratulations, you've just advanced your Attack level.");
+		chatMessageClassifier.unregister(pattern);
+		post(ChatMessageType.GAMEMESSAGE, "Congratulations, you've just advanced your Strength level.");
+
+		assertEquals(1, matched.size());
+	}
+}
@@ -29,6 +29,7 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -165,6 +166,20 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("test", "drops_b", "1");
+		manager.setConfiguration("test", "drops_a", "2");
+		manager.setConfiguration("test", "drops_c", "3");
+		manager.setConfiguration("test", "dropsb", "4");
+		manager.setConfiguration("testing", "drops_d", "5");
+		manager.unsetConfiguration("test", "drops_c");
+
+		Assert.assertEquals(List.of("test.drops_a", "test.drops_b"), manager.getConfigurationKeys("test.drops_"));
+		Assert.assertEquals(List.of(), manager.getConfigurationKeys("test.drops_z"));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
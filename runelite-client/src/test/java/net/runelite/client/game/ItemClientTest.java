@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.io.IOException;
+import net.runelite.http.api.item.ItemPrice;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ItemClientTest
+{
+	private static final String PRICES = "[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1500000,\"wikiPrice\":1450000},"
+		+ "{\"id\":11802,\"name\":\"Armadyl godsword\",\"price\":12000000,\"wikiPrice\":11900000}]";
+
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	private ItemClient itemClient;
+
+	@Before
+	public void before()
+	{
+		HttpUrl base = server.url("/");
+		itemClient = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(new OkHttpClient());
+			binder.bind(Gson.class).toInstance(new Gson());
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.api.base")).toInstance(base);
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.static.base")).toInstance(base);
+		}).getInstance(ItemClient.class);
+	}
+
+	@Test
+	public void testGetPricesNotModified() throws IOException, InterruptedException
+	{
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"v1\"")
+			.setHeader("Last-Modified", "Wed, 01 May 2024 00:00:00 GMT")
+			.setBody(PRICES));
+		server.enqueue(new MockResponse().setResponseCode(304));
+
+		ItemPrice[] prices = itemClient.getPrices();
+		assertEquals(2, prices.length);
+		assertEquals(4151, prices[0].getId());
+
+		RecordedRequest request = server.takeRequest();
+		assertNull(request.getHeader("If-None-Match"));
+
+		assertNull(itemClient.getPrices());
+
+		request = server.takeRequest();
+		assertEquals("/item/prices.js", request.getPath());
+		assertEquals("\"v1\"", request.getHeader("If-None-Match"));
+		assertEquals("Wed, 01 May 2024 00:00:00 GMT", request.getHeader("If-Modified-Since"));
+	}
+
+	@Test
+	public void testGetPricesModified() throws IOException
+	{
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"v1\"")
+			.setBody(PRICES));
+		server.enqueue(new MockResponse()
+			.setHeader("ETag", "\"v2\"")
+			.setBody("[{\"id\":4151,\"name\":\"Abyssal whip\",\"price\":1400000,\"wikiPrice\":1350000}]"));
+
+		assertEquals(2, itemClient.getPrices().length);
+
+		ItemPrice[] prices = itemClient.getPrices();
+		assertEquals(1, prices.length);
+		assertEquals(1_400_000, prices[0].getPrice());
+	}
+
+	@Test
+	public void testPriceTable()
+	{
+		ItemPriceTable table = new ItemPriceTable(new Gson().fromJson(PRICES, ItemPrice[].class));
+		assertEquals(2, table.size());
+		assertEquals("Armadyl godsword", table.get(11802).getName());
+		assertNull(table.get(4152));
+		assertNull(table.get(-1));
+		assertNull(table.get(100_000));
+		assertEquals(1, table.search("whip").size());
+		assertEquals(2, table.search("a").size());
+		assertEquals(0, table.search("dragon").size());
+	}
+}
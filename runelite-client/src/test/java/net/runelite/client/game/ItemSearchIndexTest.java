@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import net.runelite.api.Client;
+import net.runelite.api.ItemComposition;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ItemSearchIndexTest
+{
+	private static final String[] NAMES = {
+		"Dragon dagger", "Dragon dagger", "null", "Dragon scimitar", "Bronze dagger", "Rune scimitar"
+	};
+
+	@Inject
+	private ItemSearchIndex itemSearchIndex;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ItemManager itemManager;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		lenient().when(client.isClientThread()).thenReturn(true);
+		when(client.getItemCount()).thenReturn(NAMES.length);
+		// item 1 is the noted dagger
+		when(itemManager.canonicalize(anyInt())).thenAnswer(a -> a.<Integer>getArgument(0) == 1 ? 0 : a.<Integer>getArgument(0));
+		for (int i = 0; i < NAMES.length; ++i)
+		{
+			ItemComposition itemComposition = mock(ItemComposition.class);
+			lenient().when(itemComposition.getName()).thenReturn(NAMES[i]);
+			lenient().when(itemComposition.isTradeable()).thenReturn(i != 3);
+			lenient().when(itemComposition.getNote()).thenReturn(-1);
+			lenient().when(itemManager.getItemComposition(i)).thenReturn(itemComposition);
+		}
+	}
+
+	@Test
+	public void testSearch()
+	{
+		assertArrayEquals(new int[]{0, 4}, itemSearchIndex.search("dag", false));
+		// narrowed from the previous search
+		assertArrayEquals(new int[]{0, 4}, itemSearchIndex.search("dagger", false));
+		assertArrayEquals(new int[]{0}, itemSearchIndex.search("dragon dagger", false));
+		assertArrayEquals(new int[]{3, 5}, itemSearchIndex.search("scim", false));
+		assertArrayEquals(new int[]{5}, itemSearchIndex.search("scim", true));
+		assertArrayEquals(new int[0], itemSearchIndex.search("null", false));
+	}
+
+	@Test
+	public void testTop()
+	{
+		// score by number of 'a's, excluding items without any
+		int[] ids = itemSearchIndex.top(name -> name.chars().filter(c -> c == 'a').count(), 2);
+		assertArrayEquals(new int[]{0, 4}, ids);
+	}
+}
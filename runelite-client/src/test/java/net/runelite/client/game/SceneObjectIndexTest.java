@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.GameState;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.WallObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SceneObjectIndexTest
+{
+	private static final WorldPoint POINT = new WorldPoint(3200, 3200, 0);
+
+	@Inject
+	private SceneObjectIndex sceneObjectIndex;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private EventBus eventBus;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Mock
+	private Tile tile;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		when(tile.getWorldLocation()).thenReturn(POINT);
+	}
+
+	@Test
+	public void testIndex()
+	{
+		GameObject tree = gameObject(1276);
+		WallObject door = mock(WallObject.class);
+		when(door.getId()).thenReturn(1535);
+
+		spawn(tree);
+		WallObjectSpawned wallObjectSpawned = new WallObjectSpawned();
+		wallObjectSpawned.setTile(tile);
+		wallObjectSpawned.setWallObject(door);
+		sceneObjectIndex.onWallObjectSpawned(wallObjectSpawned);
+
+		assertEquals(1, sceneObjectIndex.getObjects(1276).size());
+		assertTrue(sceneObjectIndex.getObjects(1535).contains(door));
+		assertEquals(2, sceneObjectIndex.getObjects(POINT).size());
+
+		despawn(tree);
+		assertTrue(sceneObjectIndex.getObjects(1276).isEmpty());
+		assertEquals(1, sceneObjectIndex.getObjects(POINT).size());
+
+		GameStateChanged gameStateChanged = new GameStateChanged();
+		gameStateChanged.setGameState(GameState.LOADING);
+		sceneObjectIndex.onGameStateChanged(gameStateChanged);
+		assertTrue(sceneObjectIndex.getObjects(POINT).isEmpty());
+	}
+
+	@Test
+	public void testGetObjectsByName()
+	{
+		GameObject tree = gameObject(1276);
+		spawn(tree);
+		spawn(gameObject(1278));
+
+		ObjectComposition treeComp = mock(ObjectComposition.class);
+		when(treeComp.getName()).thenReturn("Tree");
+		ObjectComposition oakComp = mock(ObjectComposition.class);
+		when(oakComp.getName()).thenReturn("Oak tree");
+		when(client.getObjectDefinition(1276)).thenReturn(treeComp);
+		when(client.getObjectDefinition(1278)).thenReturn(oakComp);
+
+		assertEquals(1, sceneObjectIndex.getObjects("Tree").size());
+		assertTrue(sceneObjectIndex.getObjects("Tree").contains(tree));
+		assertTrue(sceneObjectIndex.getObjects("Yew tree").isEmpty());
+	}
+
+	@Test
+	public void testListener()
+	{
+		GameObject tree = gameObject(1276);
+		GameObject oak = gameObject(1278);
+		spawn(tree);
+
+		SceneObjectIndex.ObjectListener listener = mock(SceneObjectIndex.ObjectListener.class);
+		sceneObjectIndex.register(List.of(1276), listener);
+		verify(listener).objectSpawned(tree);
+
+		spawn(oak);
+		despawn(tree);
+		verify(listener).objectDespawned(tree);
+
+		sceneObjectIndex.unregister(listener);
+		spawn(tree);
+		verifyNoMoreInteractions(listener);
+	}
+
+	@Test
+	public void testCreatedWhileLoggedIn()
+	{
+		GameObject tree = gameObject(1276);
+		when(tree.getSceneMinLocation()).thenReturn(new Point(10, 10));
+		Tile sceneTile = mock(Tile.class);
+		when(sceneTile.getWorldLocation()).thenReturn(POINT);
+		when(sceneTile.getSceneLocation()).thenReturn(new Point(10, 10));
+		when(sceneTile.getGameObjects()).thenReturn(new GameObject[]{tree});
+
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][Constants.SCENE_SIZE][Constants.SCENE_SIZE];
+		tiles[0][10][10] = sceneTile;
+		Scene scene = mock(Scene.class);
+		when(scene.getTiles()).thenReturn(tiles);
+		when(client.getScene()).thenReturn(scene);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		doAnswer(a ->
+		{
+			((Runnable) a.getArgument(0)).run();
+			return null;
+		}).when(clientThread).invoke(any(Runnable.class));
+
+		EventBus realEventBus = new EventBus();
+		SceneObjectIndex index = Guice.createInjector(binder ->
+		{
+			binder.bind(Client.class).toInstance(client);
+			binder.bind(ClientThread.class).toInstance(clientThread);
+			binder.bind(EventBus.class).toInstance(realEventBus);
+		}).getInstance(SceneObjectIndex.class);
+
+		// objects already in the scene are indexed
+		assertTrue(index.getObjects(1276).contains(tree));
+
+		// and the index keeps receiving events afterward
+		GameObject oak = gameObject(1278);
+		GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
+		gameObjectSpawned.setTile(tile);
+		gameObjectSpawned.setGameObject(oak);
+		realEventBus.post(gameObjectSpawned);
+		assertTrue(index.getObjects(1278).contains(oak));
+	}
+
+	private static GameObject gameObject(int id)
+	{
+		GameObject gameObject = mock(GameObject.class);
+		when(gameObject.getId()).thenReturn(id);
+		return gameObject;
+	}
+
+	private void spawn(GameObject gameObject)
+	{
+		GameObjectSpawned gameObjectSpawned = new GameObjectSpawned();
+		gameObjectSpawned.setTile(tile);
+		gameObjectSpawned.setGameObject(gameObject);
+		sceneObjectIndex.onGameObjectSpawned(gameObjectSpawned);
+	}
+
+	private void despawn(GameObject gameObject)
+	{
+		GameObjectDespawned gameObjectDespawned = new GameObjectDespawned();
+		gameObjectDespawned.setTile(tile);
+		gameObjectDespawned.setGameObject(gameObject);
+		sceneObjectIndex.onGameObjectDespawned(gameObjectDespawned);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.hiscore;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HiscoreManagerTest
+{
+	private static final HiscoreResult RESULT = new HiscoreResult("Zezima", ImmutableMap.of(HiscoreSkill.HITPOINTS, new Skill(1, 99, 13_034_431)));
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Mock
+	private ScheduledExecutorService executor;
+
+	@Mock
+	private HiscoreClient hiscoreClient;
+
+	private final Gson gson = new Gson();
+	private File cacheFile;
+	private HiscoreManager hiscoreManager;
+
+	@Before
+	public void before()
+	{
+		doAnswer(a ->
+		{
+			((Runnable) a.getArgument(0)).run();
+			return null;
+		}).when(executor).execute(any(Runnable.class));
+
+		cacheFile = new File(folder.getRoot(), "hiscores.json");
+		hiscoreManager = new HiscoreManager(executor, hiscoreClient, gson, cacheFile);
+	}
+
+	@Test
+	public void testLookupAsyncCoalesced()
+	{
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		when(hiscoreClient.lookupAsync("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(future);
+
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("Zezima", HiscoreEndpoint.NORMAL);
+
+		future.complete(RESULT);
+		assertEquals(RESULT, hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookupAsync("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testLookupAsyncBounded()
+	{
+		CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+		when(hiscoreClient.lookupAsync(anyString(), eq(HiscoreEndpoint.NORMAL))).thenReturn(future, new CompletableFuture<>());
+
+		for (int i = 0; i < HiscoreManager.MAX_QUEUED_LOOKUPS + 10; ++i)
+		{
+			hiscoreManager.lookupAsync("player" + i, HiscoreEndpoint.NORMAL);
+		}
+		verify(hiscoreClient, times(HiscoreManager.MAX_CONCURRENT_LOOKUPS)).lookupAsync(anyString(), eq(HiscoreEndpoint.NORMAL));
+
+		// a failed lookup frees a slot for the next queued lookup
+		future.completeExceptionally(new IOException());
+		verify(hiscoreClient, times(HiscoreManager.MAX_CONCURRENT_LOOKUPS + 1)).lookupAsync(anyString(), eq(HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient).lookupAsync("player" + HiscoreManager.MAX_CONCURRENT_LOOKUPS, HiscoreEndpoint.NORMAL);
+		assertNull(hiscoreManager.lookupAsync("player0", HiscoreEndpoint.NORMAL));
+
+		// lookups dropped from the full queue are not submitted
+		verify(hiscoreClient, never()).lookupAsync("player" + (HiscoreManager.MAX_CONCURRENT_LOOKUPS + HiscoreManager.MAX_QUEUED_LOOKUPS), HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testLookupTakesOverQueued() throws IOException
+	{
+		when(hiscoreClient.lookupAsync(anyString(), eq(HiscoreEndpoint.NORMAL))).thenReturn(new CompletableFuture<>());
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(RESULT);
+
+		for (int i = 0; i < HiscoreManager.MAX_CONCURRENT_LOOKUPS; ++i)
+		{
+			hiscoreManager.lookupAsync("player" + i, HiscoreEndpoint.NORMAL);
+		}
+		hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL);
+
+		assertEquals(RESULT, hiscoreManager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(RESULT, hiscoreManager.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, never()).lookupAsync("Zezima", HiscoreEndpoint.NORMAL);
+	}
+
+	@Test
+	public void testPersisted() throws IOException
+	{
+		when(hiscoreClient.lookup("Zezima", HiscoreEndpoint.NORMAL)).thenReturn(RESULT);
+
+		assertEquals(RESULT, hiscoreManager.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		assertNull(hiscoreManager.lookup("Lynx Titan", HiscoreEndpoint.NORMAL));
+		hiscoreManager.save();
+
+		HiscoreManager restarted = new HiscoreManager(executor, hiscoreClient, gson, cacheFile);
+		assertEquals(RESULT, restarted.lookupAsync("Zezima", HiscoreEndpoint.NORMAL));
+		assertEquals(RESULT, restarted.lookup("Zezima", HiscoreEndpoint.NORMAL));
+		verify(hiscoreClient, times(1)).lookup("Zezima", HiscoreEndpoint.NORMAL);
+	}
+}
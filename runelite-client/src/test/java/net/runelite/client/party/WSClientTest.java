@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.PartyChatMessage;
+import net.runelite.client.party.messages.UserSync;
+import net.runelite.client.party.messages.WebsocketMessage;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class WSClientTest
+{
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	private final BlockingQueue<WebSocket> serverSockets = new LinkedBlockingQueue<>();
+	private final BlockingQueue<ByteString> serverReceived = new LinkedBlockingQueue<>();
+	private final EventBus eventBus = new EventBus();
+	private WSClient wsClient;
+
+	@Before
+	public void before()
+	{
+		server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener()
+		{
+			@Override
+			public void onOpen(WebSocket webSocket, okhttp3.Response response)
+			{
+				serverSockets.add(webSocket);
+			}
+
+			@Override
+			public void onMessage(WebSocket webSocket, ByteString bytes)
+			{
+				serverReceived.add(bytes);
+			}
+
+			@Override
+			public void onClosing(WebSocket webSocket, int code, String reason)
+			{
+				webSocket.close(code, reason);
+			}
+		}));
+
+		wsClient = Guice.createInjector(binder ->
+		{
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(OkHttpClient.class).toInstance(new OkHttpClient());
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.ws")).toInstance(server.url("/ws"));
+		}).getInstance(WSClient.class);
+		wsClient.changeSession(UUID.randomUUID());
+	}
+
+	@After
+	public void after()
+	{
+		wsClient.changeSession(null);
+	}
+
+	@Test
+	public void testSend() throws Exception
+	{
+		wsClient.send(new UserSync());
+
+		ByteString bytes = serverReceived.poll(5, TimeUnit.SECONDS);
+		assertNotNull(bytes);
+
+		Party.C2S c2s = Party.C2S.parseFrom(bytes.toByteArray());
+		assertEquals(Party.C2S.MsgCase.DATA, c2s.getMsgCase());
+		assertEquals("UserSync", c2s.getData().getType());
+
+		WebsocketMessage message = WebsocketGsonFactory.build().fromJson(c2s.getData().getData().toStringUtf8(), WebsocketMessage.class);
+		assertTrue(message instanceof UserSync);
+	}
+
+	@Test
+	public void testReceive() throws Exception
+	{
+		BlockingQueue<PartyChatMessage> received = new LinkedBlockingQueue<>();
+		eventBus.register(PartyChatMessage.class, received::add, 0);
+
+		WebSocket serverSocket = serverSockets.poll(5, TimeUnit.SECONDS);
+		assertNotNull(serverSocket);
+
+		PartyChatMessage chatMessage = new PartyChatMessage("hello party");
+		Party.S2C s2c = Party.S2C.newBuilder()
+			.setData(Party.PartyData.newBuilder()
+				.setType("PartyChatMessage")
+				.setMemberId(42)
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(WebsocketGsonFactory.build().toJson(chatMessage, WebsocketMessage.class))))
+			.build();
+		serverSocket.send(ByteString.of(s2c.toByteArray()));
+
+		PartyChatMessage message = received.poll(5, TimeUnit.SECONDS);
+		assertNotNull(message);
+		assertEquals("hello party", message.getValue());
+		assertEquals(42, message.getMemberId());
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.cluescrolls.clues;
+
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueTextIndexTest
+{
+	@Test
+	public void testCanonicalize()
+	{
+		assertEquals("who s that sitting there", ClueTextIndex.canonicalize("  Who's that   sitting there?"));
+		assertEquals("", ClueTextIndex.canonicalize("...?"));
+	}
+
+	@Test
+	public void testAnagramClues()
+	{
+		for (AnagramClue clue : AnagramClue.CLUES)
+		{
+			assertSameText(clue.getText(), AnagramClue.forText("This anagram reveals who to speak to next: " + clue.getText()).getText());
+			assertSameText(clue.getText(), AnagramClue.forText("The anagram reveals who to speak to next: " + clue.getText().toLowerCase()).getText());
+			if (clue.getQuestion() != null)
+			{
+				assertNotNull(clue.getQuestion(), AnagramClue.forText(clue.getQuestion()));
+			}
+		}
+	}
+
+	@Test
+	public void testCipherClues()
+	{
+		for (CipherClue clue : CipherClue.CLUES)
+		{
+			assertSameText(clue.getText(), CipherClue.forText(clue.getText().toLowerCase()).getText());
+			if (clue.getQuestion() != null)
+			{
+				assertNotNull(clue.getQuestion(), CipherClue.forText(clue.getQuestion()));
+			}
+		}
+	}
+
+	@Test
+	public void testCrypticClues()
+	{
+		for (CrypticClue clue : CrypticClue.CLUES)
+		{
+			assertSameText(clue.getText(), CrypticClue.forText(clue.getText().toLowerCase()).getText());
+			if (clue.getQuestionText() != null)
+			{
+				assertNotNull(clue.getQuestionText(), CrypticClue.forText(clue.getQuestionText()));
+			}
+		}
+	}
+
+	@Test
+	public void testEmoteClues()
+	{
+		for (EmoteClue clue : EmoteClue.CLUES)
+		{
+			assertSameText(clue.getText(), EmoteClue.forText(clue.getText().toLowerCase()).getText());
+		}
+	}
+
+	@Test
+	public void testFairyRingClues()
+	{
+		for (FairyRingClue clue : FairyRingClue.CLUES)
+		{
+			assertSameText(clue.getText(), FairyRingClue.forText(clue.getText().toLowerCase()).getText());
+		}
+	}
+
+	@Test
+	public void testFaloTheBardClues()
+	{
+		for (FaloTheBardClue clue : FaloTheBardClue.CLUES)
+		{
+			assertSameText(clue.getText(), FaloTheBardClue.forText(clue.getText().toLowerCase()).getText());
+		}
+	}
+
+	@Test
+	public void testSkillChallengeClues()
+	{
+		for (SkillChallengeClue clue : SkillChallengeClue.CLUES)
+		{
+			assertSameText(clue.getRawChallenge(), SkillChallengeClue.forText(clue.getRawChallenge(), clue.getRawChallenge()).getRawChallenge());
+			assertSameText(clue.getReturnText(), SkillChallengeClue.forText("", clue.getReturnText()).getReturnText());
+		}
+	}
+
+	@Test
+	public void testSkillChallengePrecedence()
+	{
+		SkillChallengeClue first = SkillChallengeClue.CLUES.get(0);
+		SkillChallengeClue second = SkillChallengeClue.CLUES.get(1);
+
+		SkillChallengeClue clue = SkillChallengeClue.forText(second.getRawChallenge(), first.getReturnText());
+		assertSame(first, clue);
+		assertTrue(clue.isChallengeCompleted());
+
+		clue = SkillChallengeClue.forText(first.getRawChallenge(), second.getReturnText());
+		assertSame(first, clue);
+		assertFalse(clue.isChallengeCompleted());
+
+		// a case-insensitive match of the challenge is only used when nothing matches exactly
+		clue = SkillChallengeClue.forText(first.getRawChallenge().toUpperCase(), second.getReturnText());
+		assertSame(second, clue);
+		assertTrue(clue.isChallengeCompleted());
+	}
+
+	@Test
+	public void testCaseSensitive()
+	{
+		ClueTextIndex<String> index = ClueTextIndex.of(List.of("Dig here."), List::of, false);
+		assertEquals("Dig here.", index.getExact("Dig here."));
+		assertNull(index.getExact("dig here."));
+		assertEquals("Dig here.", index.get("dig here."));
+	}
+
+	@Test
+	public void testMapClues()
+	{
+		for (MapClue clue : MapClue.CLUES)
+		{
+			assertEquals(clue.getItemId(), MapClue.forItemId(clue.getItemId()).getItemId());
+		}
+	}
+
+	@Test
+	public void testFuzzyFallback()
+	{
+		CrypticClue clue = CrypticClue.CLUES.get(0);
+		String text = clue.getText().replaceAll("[^A-Za-z0-9]+", "  ").toUpperCase();
+		assertSame(CrypticClue.forText(clue.getText()), CrypticClue.forText(text));
+		assertNull(CrypticClue.forText("Not a clue"));
+	}
+
+	private static void assertSameText(String expected, String actual)
+	{
+		assertEquals(expected.toLowerCase(), actual.toLowerCase());
+	}
+}
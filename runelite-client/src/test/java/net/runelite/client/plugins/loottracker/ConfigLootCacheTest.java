@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ConfigLootCacheTest
+{
+	private static final String PROFILE = "rsprofile.abc";
+	private static final String KEY = "drops_NPC_Goblin";
+
+	private final ConfigLootCache cache = new ConfigLootCache(RuneLiteAPI.GSON);
+
+	@Test
+	public void testGet()
+	{
+		String json = "{\"type\":\"NPC\",\"name\":\"Goblin\",\"kills\":2,\"drops\":[995,10]}";
+
+		ConfigLoot loot = cache.get(PROFILE, KEY, json);
+		assertEquals(LootRecordType.NPC, loot.getType());
+		assertEquals(2, loot.getKills());
+		assertArrayEquals(new int[]{995, 10}, loot.getDrops());
+
+		// the cached record is not affected by changes to the returned copy
+		loot.add(995, 5);
+		ConfigLoot cached = cache.get(PROFILE, KEY, json);
+		assertNotSame(loot, cached);
+		assertArrayEquals(new int[]{995, 10}, cached.getDrops());
+
+		// changed json is parsed again
+		cached = cache.get(PROFILE, KEY, "{\"type\":\"NPC\",\"name\":\"Goblin\",\"kills\":3,\"drops\":[995,20]}");
+		assertEquals(3, cached.getKills());
+	}
+
+	@Test
+	public void testPut()
+	{
+		ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, "Goblin");
+		loot.kills = 1;
+		loot.add(526, 1);
+
+		String json = RuneLiteAPI.GSON.toJson(loot);
+		cache.put(PROFILE, KEY, json, loot);
+		loot.kills = 100;
+
+		assertEquals(1, cache.get(PROFILE, KEY, json).getKills());
+	}
+
+	@Test
+	public void testNullDrops()
+	{
+		String json = "{\"type\":\"NPC\",\"name\":\"Goblin\",\"kills\":1}";
+
+		assertNull(cache.get(PROFILE, KEY, json).getDrops());
+		assertNull(cache.get(PROFILE, KEY, json).getDrops());
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.ItemManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SwapConfigsTest
+{
+	private static final String GROUP = MenuEntrySwapperConfig.GROUP;
+	private static final String SHIFTCLICK_GROUP = "shiftclick";
+
+	@Mock
+	@Bind
+	Client client;
+
+	@Mock
+	@Bind
+	ConfigManager configManager;
+
+	@Mock
+	@Bind
+	ItemManager itemManager;
+
+	@Mock
+	@Bind
+	ChatMessageManager chatMessageManager;
+
+	@Mock
+	@Bind
+	MenuEntrySwapperConfig config;
+
+	@Inject
+	MenuEntrySwapperPlugin menuEntrySwapperPlugin;
+
+	private final List<String> keys = new ArrayList<>();
+	private final List<String> shiftClickKeys = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(configManager.getConfigurationKeys(GROUP + ".")).thenReturn(keys);
+		when(configManager.getConfigurationKeys(SHIFTCLICK_GROUP + ".item_")).thenReturn(shiftClickKeys);
+	}
+
+	private void set(String key, String value)
+	{
+		keys.add(GROUP + "." + key);
+		when(configManager.getConfiguration(GROUP, key)).thenReturn(value);
+	}
+
+	private SwapConfigs load()
+	{
+		return SwapConfigs.load(configManager, GROUP, SHIFTCLICK_GROUP);
+	}
+
+	@Test
+	public void testLoad()
+	{
+		set("object_1234", "2");
+		set("object_shift_1234", "3");
+		set("npc_42", "1");
+		set("npc_shift_43", "4");
+		set("item_4151", "0");
+		set("wornitem_4151", "5");
+		set("wornitem_shift_4151", "6");
+		// ui swaps are not read into the tables
+		keys.add(GROUP + ".ui_1");
+		shiftClickKeys.add(SHIFTCLICK_GROUP + ".item_4151");
+		when(configManager.getConfiguration(SHIFTCLICK_GROUP, "item_4151")).thenReturn("7");
+
+		SwapConfigs swapConfigs = load();
+		assertEquals(2, swapConfigs.getObject(false, 1234));
+		assertEquals(3, swapConfigs.getObject(true, 1234));
+		assertEquals(1, swapConfigs.getNpc(false, 42));
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getNpc(true, 42));
+		assertEquals(4, swapConfigs.getNpc(true, 43));
+		assertEquals(0, swapConfigs.getItem(false, 4151));
+		assertEquals(7, swapConfigs.getItem(true, 4151));
+		assertEquals(5, swapConfigs.getWornItem(false, 4151));
+		assertEquals(6, swapConfigs.getWornItem(true, 4151));
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, 1));
+	}
+
+	@Test
+	public void testGrow()
+	{
+		for (int i = 0; i < 1000; ++i)
+		{
+			set("item_" + (i * 64), Integer.toString(i % 10));
+		}
+
+		SwapConfigs swapConfigs = load();
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertEquals(i % 10, swapConfigs.getItem(false, i * 64));
+			assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, i * 64 + 1));
+		}
+	}
+
+	@Test
+	public void testNegativeKeys()
+	{
+		set("item_-5", "1");
+		set("item_5", "1");
+
+		SwapConfigs swapConfigs = load();
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, -5));
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, -1));
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getObject(false, Integer.MIN_VALUE));
+		assertEquals(1, swapConfigs.getItem(false, 5));
+	}
+
+	@Test
+	public void testMalformed()
+	{
+		set("item_abc", "1");
+		set("item_5", "x");
+		set("item_6", "");
+		set("item_7", "2");
+
+		// malformed values are skipped instead of failing the whole load
+		SwapConfigs swapConfigs = load();
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, 5));
+		assertEquals(SwapConfigs.UNSET, swapConfigs.getItem(false, 6));
+		assertEquals(2, swapConfigs.getItem(false, 7));
+	}
+
+	@Test
+	public void testInvalidate()
+	{
+		set("npc_42", "1");
+
+		SwapConfigs swapConfigs = menuEntrySwapperPlugin.swapConfigs();
+		assertSame(swapConfigs, menuEntrySwapperPlugin.swapConfigs());
+
+		// changes to other groups keep the loaded configs
+		ConfigChanged configChanged = new ConfigChanged();
+		configChanged.setGroup("npcindicators");
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+		assertSame(swapConfigs, menuEntrySwapperPlugin.swapConfigs());
+
+		when(configManager.getConfiguration(GROUP, "npc_42")).thenReturn("2");
+		configChanged.setGroup(GROUP);
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+		SwapConfigs changed = menuEntrySwapperPlugin.swapConfigs();
+		assertNotSame(swapConfigs, changed);
+		assertEquals(2, changed.getNpc(false, 42));
+
+		configChanged.setGroup(SHIFTCLICK_GROUP);
+		menuEntrySwapperPlugin.onConfigChanged(configChanged);
+		assertNotSame(changed, menuEntrySwapperPlugin.swapConfigs());
+
+		changed = menuEntrySwapperPlugin.swapConfigs();
+		keys.clear();
+		menuEntrySwapperPlugin.onProfileChanged(new ProfileChanged());
+		SwapConfigs profile = menuEntrySwapperPlugin.swapConfigs();
+		assertNotSame(changed, profile);
+		assertEquals(SwapConfigs.UNSET, profile.getNpc(false, 42));
+	}
+}
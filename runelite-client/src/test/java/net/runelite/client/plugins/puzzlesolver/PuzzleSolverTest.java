@@ -25,14 +25,20 @@
  */
 package net.runelite.client.plugins.puzzlesolver;
 
+import java.util.List;
+import java.util.Random;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
 import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
 import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
-import org.junit.Test;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.PatternDatabaseIDAStar;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import org.junit.Test;
 
 public class PuzzleSolverTest
 {
@@ -163,4 +169,73 @@ public class PuzzleSolverTest
 			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
 		}
 	}
+
+	@Test
+	public void testSolverMMRandom()
+	{
+		Random random = new Random(42);
+		for (int i = 0; i < 50; i++)
+		{
+			PuzzleState state = new PuzzleState(shuffle(random));
+			PuzzleSolver solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance()), state);
+			solver.run();
+
+			assertTrue(solver.hasSolution());
+			assertTrue(solver.getStep(solver.getStepCount() - 1).hasPieces(FINISHED_STATE));
+		}
+	}
+
+	@Test
+	public void testPatternDatabase()
+	{
+		PatternDatabase database = new PatternDatabase(1, 2, new int[][]{{0, 1, 4, 5}, {2, 3, 6, 7}, {8, 9, 10}});
+		assertEquals(0, database.computeValue(new PuzzleState(FINISHED_STATE.clone())));
+
+		// the blank moved up, left and down from the finished state
+		PuzzleState state = new PuzzleState(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 23, 18, 20, 21, 22, -1, 19});
+		assertEquals(3, database.computeValue(state));
+
+		List<PuzzleState> path = new PatternDatabaseIDAStar(database).computePath(state);
+		assertEquals(4, path.size());
+		assertTrue(path.get(path.size() - 1).hasPieces(FINISHED_STATE));
+
+		// the top rows and left column must already be solved
+		assertNull(new PatternDatabaseIDAStar(database).computePath(START_STATES_MM[0]));
+	}
+
+	/**
+	 * Make a solvable board by sliding the blank around randomly from the finished state
+	 */
+	private static int[] shuffle(Random random)
+	{
+		int[] pieces = FINISHED_STATE.clone();
+		int blank = pieces.length - 1;
+		for (int i = 0; i < 400; i++)
+		{
+			int next;
+			switch (random.nextInt(4))
+			{
+				case 0:
+					next = blank % PuzzleSolver.DIMENSION > 0 ? blank - 1 : -1;
+					break;
+				case 1:
+					next = blank % PuzzleSolver.DIMENSION < PuzzleSolver.DIMENSION - 1 ? blank + 1 : -1;
+					break;
+				case 2:
+					next = blank - PuzzleSolver.DIMENSION;
+					break;
+				default:
+					next = blank + PuzzleSolver.DIMENSION < pieces.length ? blank + PuzzleSolver.DIMENSION : -1;
+					break;
+			}
+
+			if (next >= 0)
+			{
+				pieces[blank] = pieces[next];
+				pieces[next] = PuzzleSolver.BLANK_TILE_VALUE;
+				blank = next;
+			}
+		}
+		return pieces;
+	}
 }
@@ -50,6 +50,7 @@ import net.runelite.client.Notifier;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.chat.ChatClient;
 import net.runelite.client.chat.ChatCommandManager;
+import net.runelite.client.chat.ChatMessageClassifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.Notification;
 import net.runelite.client.game.ItemManager;
@@ -143,6 +144,9 @@ public class SlayerPluginTest
 	@Inject
 	SlayerPlugin slayerPlugin;
 
+	@Inject
+	ChatMessageClassifier chatMessageClassifier;
+
 	@Before
 	public void before()
 	{
@@ -182,7 +186,7 @@ public class SlayerPluginTest
 		ChatMessage chatMessageEvent = new ChatMessage(null, GAMEMESSAGE, "Superior", SUPERIOR_MESSAGE, null, 0);
 
 		when(slayerConfig.showSuperiorNotification()).thenReturn(Notification.ON);
-		slayerPlugin.onChatMessage(chatMessageEvent);
+		chatMessageClassifier.onChatMessage(chatMessageEvent);
 		verify(notifier).notify(Notification.ON, SUPERIOR_MESSAGE);
 	}
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import net.runelite.http.api.worlds.World;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WorldPingerTest
+{
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newFixedThreadPool(3);
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testSmoothing()
+	{
+		final int[] samples = {100, 200, -1, 50};
+		final AtomicInteger sample = new AtomicInteger();
+		final WorldPinger worldPinger = new WorldPinger(executor, w -> samples[sample.getAndIncrement()]);
+		final World world = World.builder().id(301).build();
+
+		assertNull(worldPinger.getPing(301));
+		assertEquals(100, worldPinger.ping(world));
+		assertEquals(130, worldPinger.ping(world));
+		assertEquals(-1, worldPinger.ping(world));
+		assertEquals(50, worldPinger.ping(world));
+		assertEquals(50, (int) worldPinger.getPing(301));
+	}
+
+	@Test
+	public void testPingAll()
+	{
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+		final ToIntFunction<World> pinger = w ->
+		{
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try
+			{
+				Thread.sleep(20);
+			}
+			catch (InterruptedException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+			inFlight.decrementAndGet();
+			return w.getId() - 300;
+		};
+		final WorldPinger worldPinger = new WorldPinger(executor, pinger);
+
+		final List<World> worlds = new ArrayList<>();
+		for (int i = 301; i <= 330; ++i)
+		{
+			worlds.add(World.builder().id(i).build());
+		}
+
+		final Map<Integer, Integer> results = new HashMap<>();
+		worldPinger.pingAll(worlds, results::putAll);
+
+		assertEquals(30, results.size());
+		for (int i = 301; i <= 330; ++i)
+		{
+			assertEquals(i - 300, (int) results.get(i));
+		}
+		assertTrue(maxInFlight.get() <= 3);
+	}
+
+	@Test(timeout = 5000)
+	public void testPingAllShutdown()
+	{
+		// the first ping shuts the executor down, dropping the queued pings
+		final WorldPinger worldPinger = new WorldPinger(executor, w ->
+		{
+			executor.shutdownNow();
+			return 1;
+		});
+
+		final List<World> worlds = new ArrayList<>();
+		for (int i = 301; i <= 330; ++i)
+		{
+			worlds.add(World.builder().id(i).build());
+		}
+
+		final Map<Integer, Integer> results = new HashMap<>();
+		worldPinger.pingAll(worlds, results::putAll);
+
+		assertTrue(results.size() < 30);
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.gson.Gson;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import net.runelite.api.Skill;
+import org.junit.Test;
+
+public class XpHistoryTest
+{
+	private static final long MINUTE = 60_000L;
+	private static final long START = 28_333_333L * MINUTE;
+
+	@Test
+	public void testRolling()
+	{
+		XpHistory history = new XpHistory();
+
+		history.record(START, 100);
+		history.record(START + 30_000, 50);
+		assertEquals(150, history.getTotal(START + 59_000));
+
+		history.record(START + 30 * MINUTE, 200);
+		assertEquals(350, history.getTotal(START + 30 * MINUTE));
+
+		// the first minute falls out of the window after an hour
+		assertEquals(200, history.getTotal(START + XpHistory.MINUTES * MINUTE));
+		assertEquals(200, history.getTotal(START + (XpHistory.MINUTES + 29) * MINUTE));
+		assertEquals(0, history.getTotal(START + (XpHistory.MINUTES + 30) * MINUTE));
+	}
+
+	@Test
+	public void testGap()
+	{
+		XpHistory history = new XpHistory();
+
+		history.record(START, 100);
+		history.record(START + 5 * MINUTE, 100);
+		assertEquals(200, history.getTotal(START + 5 * MINUTE));
+
+		history.record(START + 10 * XpHistory.MINUTES * MINUTE, 25);
+		assertEquals(25, history.getTotal(START + 10 * XpHistory.MINUTES * MINUTE));
+
+		history.clear();
+		assertEquals(0, history.getTotal(START + 10 * XpHistory.MINUTES * MINUTE));
+	}
+
+	@Test
+	public void testTenHoursOfTicks()
+	{
+		XpHistory history = new XpHistory();
+
+		// 10 hours of 25 xp drops every game tick
+		final long tick = 600;
+		final long ticks = 10 * 60 * MINUTE / tick;
+		for (long i = 0; i < ticks; ++i)
+		{
+			history.record(START + i * tick, 25);
+		}
+
+		// the last hour of ticks
+		assertEquals(25 * 60 * MINUTE / tick, history.getTotal(START + (ticks - 1) * tick));
+	}
+
+	@Test
+	public void testWindow()
+	{
+		XpHistory history = new XpHistory();
+		assertEquals(0, history.getWindowMillis(START));
+
+		history.record(START + 30_000, 100);
+		assertEquals(45_000, history.getWindowMillis(START + 45_000));
+
+		// time without any xp still counts towards the window, up to an hour
+		assertEquals(20 * MINUTE, history.getWindowMillis(START + 20 * MINUTE));
+		history.record(START + 50 * MINUTE, 100);
+		assertEquals(XpHistory.MINUTES * MINUTE, history.getWindowMillis(START + (XpHistory.MINUTES + 30) * MINUTE));
+
+		// once the last hour is empty the window starts over
+		assertEquals(0, history.getWindowMillis(START + 2 * XpHistory.MINUTES * MINUTE));
+	}
+
+	@Test
+	public void testHourlyTotals()
+	{
+		XpHistory history = new XpHistory();
+		final long hour = XpHistory.MINUTES * MINUTE;
+
+		history.record(START, 100);
+		history.record(START + hour, 200);
+		history.record(START + 3 * hour, 50);
+
+		int[] totals = history.getHourlyTotals(START + 3 * hour);
+		assertEquals(XpHistory.HOURS, totals.length);
+		assertEquals(50, totals[XpHistory.HOURS - 1]);
+		assertEquals(0, totals[XpHistory.HOURS - 2]);
+		assertEquals(200, totals[XpHistory.HOURS - 3]);
+		assertEquals(100, totals[XpHistory.HOURS - 4]);
+
+		// clearing the recent history keeps the rollups
+		history.clearRecent();
+		assertEquals(0, history.getTotal(START + 3 * hour));
+		assertArrayEquals(totals, history.getHourlyTotals(START + 3 * hour));
+
+		// hours older than a day are dropped
+		assertEquals(50, history.getHourlyTotals(START + (XpHistory.HOURS + 2) * hour)[0]);
+		assertArrayEquals(new int[XpHistory.HOURS], history.getHourlyTotals(START + (XpHistory.HOURS + 3) * hour));
+	}
+
+	@Test
+	public void testSerialize()
+	{
+		Gson gson = new Gson();
+		XpHistories histories = new XpHistories();
+		histories.getSkill(Skill.ATTACK).record(START, 100);
+		histories.getSkill(Skill.DEFENCE);
+		histories.getOverall().record(START, 100);
+
+		XpHistories saved = histories.withoutEmpty();
+		XpHistories loaded = gson.fromJson(gson.toJson(saved), XpHistories.class);
+		assertEquals(100, loaded.getSkill(Skill.ATTACK).getTotal(START + MINUTE));
+		assertEquals(100, loaded.getOverall().getTotal(START + MINUTE));
+		assertEquals(true, loaded.getSkill(Skill.DEFENCE).isEmpty());
+
+		// the loaded history keeps recording
+		loaded.getSkill(Skill.ATTACK).record(START + MINUTE, 50);
+		assertEquals(150, loaded.getSkill(Skill.ATTACK).getTotal(START + MINUTE));
+	}
+}
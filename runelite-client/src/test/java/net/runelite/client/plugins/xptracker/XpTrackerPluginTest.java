@@ -35,6 +35,7 @@ import net.runelite.api.Skill;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.StatChanged;
+import net.runelite.client.config.ConfigManager;
 import net.runelite.client.game.NPCManager;
 import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.ui.ClientToolbar;
@@ -72,7 +73,7 @@ public class XpTrackerPluginTest
 
 	@Mock
 	@Bind
-	private XpClient xpClient;
+	private XpUpdateQueue xpUpdateQueue;
 
 	@Mock
 	@Bind
@@ -82,6 +83,10 @@ public class XpTrackerPluginTest
 	@Bind
 	private OverlayManager overlayManager;
 
+	@Mock
+	@Bind
+	private ConfigManager configManager;
+
 	@Before
 	public void before()
 	{
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class XpUpdateQueueTest
+{
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final Gson gson = new Gson();
+	private ScheduledExecutorService executor;
+	private XpClient xpClient;
+	private File file;
+
+	@Before
+	public void before() throws IOException
+	{
+		HttpUrl base = server.url("/");
+		xpClient = Guice.createInjector(binder ->
+		{
+			binder.bind(OkHttpClient.class).toInstance(new OkHttpClient());
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.api.base")).toInstance(base);
+		}).getInstance(XpClient.class);
+		executor = new ScheduledThreadPoolExecutor(1);
+		file = new File(folder.getRoot(), "xpupdates.json");
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testCoalesce() throws InterruptedException
+	{
+		server.enqueue(new MockResponse());
+		server.enqueue(new MockResponse());
+
+		XpUpdateQueue queue = new XpUpdateQueue(xpClient, executor, gson, file);
+		queue.enqueue("Zezima");
+		queue.enqueue("Lynx Titan");
+		queue.enqueue("Zezima");
+		assertEquals(List.of("Zezima", "Lynx Titan"), queue.getPending());
+
+		queue.flush().join();
+
+		assertEquals(2, server.getRequestCount());
+		assertEquals("/xp/update?username=Zezima", server.takeRequest().getPath());
+		assertEquals("/xp/update?username=Lynx%20Titan", server.takeRequest().getPath());
+		assertTrue(queue.getPending().isEmpty());
+	}
+
+	@Test
+	public void testRetryAfterRestart()
+	{
+		server.enqueue(new MockResponse());
+		server.enqueue(new MockResponse().setResponseCode(503));
+
+		XpUpdateQueue queue = new XpUpdateQueue(xpClient, executor, gson, file);
+		queue.enqueue("Zezima");
+		queue.enqueue("Lynx Titan");
+		queue.flush().join();
+		queue.stop();
+
+		// the failed update is kept for the next run
+		assertEquals(List.of("Lynx Titan"), queue.getPending());
+
+		server.enqueue(new MockResponse());
+
+		XpUpdateQueue restarted = new XpUpdateQueue(xpClient, executor, gson, file);
+		restarted.load();
+		assertEquals(List.of("Lynx Titan"), restarted.getPending());
+
+		restarted.flush().join();
+		assertEquals(3, server.getRequestCount());
+		assertTrue(restarted.getPending().isEmpty());
+
+		XpUpdateQueue empty = new XpUpdateQueue(xpClient, executor, gson, file);
+		empty.load();
+		assertTrue(empty.getPending().isEmpty());
+	}
+
+	@Test
+	public void testRejectedIsDropped()
+	{
+		server.enqueue(new MockResponse().setResponseCode(400));
+
+		XpUpdateQueue queue = new XpUpdateQueue(xpClient, executor, gson, file);
+		queue.enqueue("Zezima");
+		queue.flush().join();
+
+		assertEquals(1, server.getRequestCount());
+		assertTrue(queue.getPending().isEmpty());
+	}
+
+	@Test
+	public void testStopDuringFlush()
+	{
+		server.enqueue(new MockResponse().setResponseCode(503).setHeadersDelay(500, TimeUnit.MILLISECONDS));
+
+		XpUpdateQueue queue = new XpUpdateQueue(xpClient, executor, gson, file);
+		queue.enqueue("Zezima");
+		CompletableFuture<Void> flush = queue.flush();
+		queue.stop();
+		flush.join();
+
+		// the failed update is kept, but not retried while stopped
+		assertEquals(List.of("Zezima"), queue.getPending());
+		assertFalse(queue.isFlushScheduled());
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class KeywordMatcherTest
+{
+	@Test
+	public void testContainsAny()
+	{
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("he", "she", "his", "hers"));
+		assertTrue(matcher.containsAny("ushers"));
+		assertTrue(matcher.containsAny("this"));
+		assertTrue(matcher.containsAny("SHE"));
+		assertFalse(matcher.containsAny("hi"));
+		assertFalse(matcher.containsAny(""));
+	}
+
+	@Test
+	public void testForEachMatch()
+	{
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("he", "she", "his", "hers"));
+		List<String> matches = new ArrayList<>();
+		String text = "ushers";
+		matcher.forEachMatch(text, (start, end) -> matches.add(text.substring(start, end)));
+		// "he" also ends at the same position as "she", but only the longest is reported
+		assertEquals(Arrays.asList("she", "hers"), matches);
+	}
+
+	@Test
+	public void testOverlapping()
+	{
+		KeywordMatcher matcher = KeywordMatcher.compile(Collections.singletonList("aa"));
+		List<Integer> starts = new ArrayList<>();
+		matcher.forEachMatch("aaaa", (start, end) -> starts.add(start));
+		assertEquals(Arrays.asList(0, 1, 2), starts);
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		KeywordMatcher matcher = KeywordMatcher.compile(Arrays.asList("", ""));
+		assertTrue(matcher.isEmpty());
+		assertFalse(matcher.containsAny("anything"));
+	}
+
+	@Test
+	public void testCaseInsensitive()
+	{
+		KeywordMatcher matcher = KeywordMatcher.compile(Collections.singletonList("ReGeX!!!"));
+		assertTrue(matcher.containsAny("I love regex!!!!!!!!"));
+		// like Pattern.CASE_INSENSITIVE, only ascii is case folded
+		assertFalse(KeywordMatcher.compile(Collections.singletonList("ë")).containsAny("Ë"));
+	}
+}
@@ -25,6 +25,7 @@
 package net.runelite.client.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
@@ -41,6 +42,20 @@ public class TextTest
 		assertEquals("a < b", Text.removeTags("a < b"));
 		assertEquals("a  b", Text.removeTags("a <lt> b"));
 		assertEquals("Remove no tags", Text.removeTags("Remove no tags"));
+		assertEquals("a > b", Text.removeTags("a > b"));
+		assertEquals("a ", Text.removeTags("a <b <c>"));
+		assertEquals("x: Test", Text.removeTags("<col=ff0000>Test</col>", new StringBuilder("x: ")).toString());
+	}
+
+	@Test
+	public void removeTagsToLowerCase()
+	{
+		assertEquals("goblin  (level-2)", Text.removeTagsToLowerCase("<col=ffff00>Goblin<col=ff00>  (level-2)"));
+		assertEquals("use item -> man", Text.removeTagsToLowerCase("Use Item -> Man"));
+		assertEquals("a < b", Text.removeTagsToLowerCase("a < B"));
+
+		String normalized = "talk-to";
+		assertSame(normalized, Text.removeTagsToLowerCase(normalized));
 	}
 
 	@Test
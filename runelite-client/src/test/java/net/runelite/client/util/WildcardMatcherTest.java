@@ -24,6 +24,7 @@
  */
 package net.runelite.client.util;
 
+import java.util.Arrays;
 import static junit.framework.TestCase.assertTrue;
 import static net.runelite.client.util.WildcardMatcher.matches;
 import static org.junit.Assert.assertFalse;
@@ -40,5 +41,24 @@ public class WildcardMatcherTest
 		assertTrue(matches("rune*", "Runeite Ore"));
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
+		assertTrue(matches("*", ""));
+		assertTrue(matches("*dragon*", "Black dragon"));
+		assertTrue(matches("a*b*c", "abc"));
+		assertTrue(matches("a*b*c", "aXbYbZc"));
+		assertFalse(matches("a*b*c", "ac"));
+		assertFalse(matches("ab*ba", "aba"));
+		assertFalse(matches("rune*", "Adamant rune"));
+	}
+
+	@Test
+	public void testPatternSet()
+	{
+		WildcardPatternSet set = WildcardPatternSet.compile(Arrays.asList("Goblin", "*demon", "cave*crawler"));
+		assertTrue(set.matches("goblin"));
+		assertTrue(set.matches("Greater demon"));
+		assertTrue(set.matches("Cave crawler"));
+		assertFalse(set.matches("Hobgoblin"));
+		assertFalse(set.matches("Demonic gorilla"));
+		assertFalse(WildcardPatternSet.EMPTY.matches("Goblin"));
 	}
 }
\ No newline at end of file
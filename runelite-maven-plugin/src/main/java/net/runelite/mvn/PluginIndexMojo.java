@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2024, Adam <Adam@sigterm.info>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.mvn;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Writes a list of the classes annotated with {@code @PluginDescriptor} in the plugin package,
+ * so the client doesn't have to scan and load every class on the classpath at startup to find them.
+ */
+@Mojo(
+	name = "build-plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN_DESCRIPTOR = "Lnet/runelite/client/plugins/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}")
+	private File classesDirectory;
+
+	@Parameter(defaultValue = "net.runelite.client.plugins")
+	private String pluginPackage;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		File pluginDirectory = new File(classesDirectory, pluginPackage.replace('.', File.separatorChar));
+		List<String> plugins = new ArrayList<>();
+
+		try
+		{
+			scan(pluginDirectory, plugins);
+			Collections.sort(plugins);
+
+			indexFile.getParentFile().mkdirs();
+			Files.write(indexFile.toPath(), plugins, StandardCharsets.UTF_8);
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error building plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private void scan(File dir, List<String> plugins) throws IOException
+	{
+		File[] files = dir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		for (File file : files)
+		{
+			if (file.isDirectory())
+			{
+				scan(file, plugins);
+			}
+			// plugins are always top level classes
+			else if (file.getName().endsWith(".class") && file.getName().indexOf('$') == -1)
+			{
+				String className = readPluginClassName(file);
+				if (className != null)
+				{
+					plugins.add(className.replace('/', '.'));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read the name of the class in the given class file if it has a plugin descriptor
+	 *
+	 * @param file class file
+	 * @return the internal name of the class, or null if it is not annotated with {@code @PluginDescriptor}
+	 */
+	private static String readPluginClassName(File file) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != 0xCAFEBABE)
+			{
+				throw new IOException("not a class file: " + file);
+			}
+
+			in.readUnsignedShort(); // minor
+			in.readUnsignedShort(); // major
+
+			int constantPoolCount = in.readUnsignedShort();
+			String[] utf8 = new String[constantPoolCount];
+			int[] classNames = new int[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; ++i)
+			{
+				int tag = in.readUnsignedByte();
+				switch (tag)
+				{
+					case 1: // Utf8
+						utf8[i] = in.readUTF();
+						break;
+					case 7: // Class
+						classNames[i] = in.readUnsignedShort();
+						break;
+					case 8: // String
+					case 16: // MethodType
+					case 19: // Module
+					case 20: // Package
+						in.skipBytes(2);
+						break;
+					case 15: // MethodHandle
+						in.skipBytes(3);
+						break;
+					case 3: // Integer
+					case 4: // Float
+					case 9: // Fieldref
+					case 10: // Methodref
+					case 11: // InterfaceMethodref
+					case 12: // NameAndType
+					case 17: // Dynamic
+					case 18: // InvokeDynamic
+						in.skipBytes(4);
+						break;
+					case 5: // Long
+					case 6: // Double
+						in.skipBytes(8);
+						++i; // 8 byte constants take two entries
+						break;
+					default:
+						throw new IOException("unknown constant pool tag " + tag + " in " + file);
+				}
+			}
+
+			in.readUnsignedShort(); // access flags
+			int thisClass = in.readUnsignedShort();
+			in.readUnsignedShort(); // super class
+
+			int interfaces = in.readUnsignedShort();
+			in.skipBytes(interfaces * 2);
+
+			skipMembers(in); // fields
+			skipMembers(in); // methods
+
+			int attributes = in.readUnsignedShort();
+			for (int i = 0; i < attributes; ++i)
+			{
+				String name = utf8[in.readUnsignedShort()];
+				int length = in.readInt();
+				if (!"RuntimeVisibleAnnotations".equals(name))
+				{
+					in.skipBytes(length);
+					continue;
+				}
+
+				int annotations = in.readUnsignedShort();
+				for (int j = 0; j < annotations; ++j)
+				{
+					if (PLUGIN_DESCRIPTOR.equals(utf8[in.readUnsignedShort()]))
+					{
+						return utf8[classNames[thisClass]];
+					}
+					skipElementValuePairs(in);
+				}
+			}
+
+			return null;
+		}
+	}
+
+	private static void skipMembers(DataInputStream in) throws IOException
+	{
+		int count = in.readUnsignedShort();
+		for (int i = 0; i < count; ++i)
+		{
+			in.skipBytes(6); // access flags, name, descriptor
+			int attributes = in.readUnsignedShort();
+			for (int j = 0; j < attributes; ++j)
+			{
+				in.readUnsignedShort(); // name
+				in.skipBytes(in.readInt());
+			}
+		}
+	}
+
+	private static void skipElementValuePairs(DataInputStream in) throws IOException
+	{
+		int pairs = in.readUnsignedShort();
+		for (int i = 0; i < pairs; ++i)
+		{
+			in.readUnsignedShort(); // name
+			skipElementValue(in);
+		}
+	}
+
+	private static void skipElementValue(DataInputStream in) throws IOException
+	{
+		int tag = in.readUnsignedByte();
+		switch (tag)
+		{
+			case 'e':
+				in.skipBytes(4);
+				break;
+			case '@':
+				in.readUnsignedShort(); // type
+				skipElementValuePairs(in);
+				break;
+			case '[':
+				int values = in.readUnsignedShort();
+				for (int i = 0; i < values; ++i)
+				{
+					skipElementValue(in);
+				}
+				break;
+			default:
+				// const value or class
+				in.skipBytes(2);
+				break;
+		}
+	}
+}